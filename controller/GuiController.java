@@ -168,6 +168,19 @@ public class GuiController {
 	}
 	
 	
+	/**
+	 * informs the user that reordering the variables reduces the OBDDs that 
+	 * aren't ROBDDs and asks whether the variables should be reordered anyway
+	 * @return "true" if the answer is "yes", "false" otherwise
+	 */
+	public boolean reorderingReduces() {
+		return yesOrNoDialog("Not all versions of the BDDs with this variable "
+				+ "ordering are ROBDDs.\nReordering turns them into ROBDDs. "
+				+ "Should the variables be reordered anyway?", "Warning", 
+				JOptionPane.WARNING_MESSAGE);
+	}
+	
+	
 	/**
 	 * informs the user that some of the OBDD's paths are missing variables and
 	 * asks whether the nodes should be added
@@ -5,6 +5,7 @@ import java.awt.Point;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.Stack;
 
@@ -152,12 +153,17 @@ public class ObddController {
 		}
 		// creating the formula
 		Formula formula = FormulaController.stringToFormula(formulaFieldText);
-		// creating the complete OBDD
-		OBDD obdd = formula.toObdd(varOrd);
-		// reducing to a QOBDD if one should be generated
-		if (obddTypeNumber == 1) obdd = obdd.reduceQ(varOrd);
-		// reducing to an ROBDD if one should be generated
-		else if (obddTypeNumber == 2) obdd = obdd.reduceR(varOrd);
+		// initializing the OBDD
+		OBDD obdd;
+		// compiling the ROBDD directly from the formula if one should be 
+		// generated
+		if (obddTypeNumber == 2) obdd = formula.toRobdd(varOrd);
+		else {
+			// creating the complete OBDD
+			obdd = formula.toObdd(varOrd);
+			// reducing to a QOBDD if one should be generated
+			if (obddTypeNumber == 1) obdd = obdd.reduceQ(varOrd);
+		}
 		// creating the abstract OBDD layout
 		AbstractObddLayout abstractObdd = new AbstractObddLayout(obdd);
 		// initializing a new stack for the OBDD
@@ -183,6 +189,8 @@ public class ObddController {
 		guiController.updateTextFields(obddName, varOrdFieldText, formulaFieldText);
 		// adding the OBDD's name to the OBDD list
 		guiController.addToObddList(obddName);
+		// collecting the node table's garbage if necessary
+		collectGarbage(varOrd);
 		return true;
 	}
 	
@@ -267,7 +275,7 @@ public class ObddController {
 		VariableOrdering secondVarOrd = VarOrdController.stringToVarOrd
 				(stringMap.get(secondName).getFirst());
 		// checking whether the two variable orderings are equal
-		if (firstVarOrd.getOrdList().equals(secondVarOrd.getOrdList())) {
+		if (firstVarOrd.equals(secondVarOrd)) {
 			// having the GUI controller ask the user for the operation to be 
 			// applied on the two OBDDs
 			int applyOp = 
@@ -326,6 +334,8 @@ public class ObddController {
 						applyFormulaString);
 				// adding the OBDD's name to the OBDD list
 				guiController.addToObddList(applyName); 
+				// collecting the node table's garbage if necessary
+				collectGarbage(firstVarOrd);
 				return true;
 			}
 		}
@@ -406,7 +416,8 @@ public class ObddController {
 	
 	/**
 	 * If a node is selected, all nodes equivalent to it are highlighted.
-	 * Otherwise any two equivalent nodes are highlighted.
+	 * Otherwise all nodes of the highest class of equivalent nodes are 
+	 * highlighted.
 	 * (Highlighting is not stored on the stack.)
 	 */
 	public void findEquivalentNodes() {
@@ -424,9 +435,12 @@ public class ObddController {
 			// (only works if there is a selected node)
 			equivalentNodes = selectedNode.findEquivalent(obdd);
 		} catch (NullPointerException e) {
-			// searching for any two equivalent nodes, if there is no selected 
-			// node
-			equivalentNodes = obdd.findAnyEquivalent(varOrd);
+			// searching for the highest class of equivalent nodes, if there 
+			// is no selected node
+			LinkedList<LinkedList<OBDD>> equivClasses = 
+					obdd.findEquivalenceClasses(varOrd);
+			equivalentNodes = 
+					equivClasses.isEmpty() ? null : equivClasses.getFirst();
 		}
 		// calling the GUI controller to inform the user, if there are no 
 		// equivalent nodes
@@ -480,18 +494,13 @@ public class ObddController {
 		if (highlightedNodes.size() > 1) {
 			// retrieving the first highlighted node
 			firstSelNode = highlightedNodes.poll();
-			// merging all remaining highlighted nodes into the first one 
-			while (!highlightedNodes.isEmpty()) {
-				// retrieving the next node
-				OBDD secondMergeNode = highlightedNodes.poll();
+			// mapping all remaining highlighted nodes to the first one
+			HashMap<OBDD, OBDD> representatives = new HashMap<OBDD, OBDD>();
+			for (OBDD secondMergeNode : highlightedNodes) {
 				// only merging, if the nodes are equivalent and decision nodes
 				if (firstSelNode.isEquivalent(secondMergeNode) && 
-						!firstSelNode.isTerminal()) {
-					// merging the nodes
-					obdd = obdd.merge(firstSelNode, secondMergeNode, varOrd);
-					// updating the abstract OBDD
-					abstractObdd.removeNode(secondMergeNode.getId(), obdd);
-				}				
+						!firstSelNode.isTerminal()) 
+					representatives.put(secondMergeNode, firstSelNode);
 				else {
 					// calling the GUI controller to inform the user and 
 					// returning the unchanged OBDD, if the nodes weren't 
@@ -500,6 +509,10 @@ public class ObddController {
 					return false;
 				}
 			}
+			// merging all nodes at once
+			obdd = obdd.merge(representatives, varOrd);
+			// updating the abstract OBDD
+			abstractObdd.reduceObdd(obdd);
 			// pushing the changed abstract OBDD onto the stack
 			obddStack.push(abstractObdd);
 			// putting the stack back into the stack HashMap
@@ -521,25 +534,21 @@ public class ObddController {
 	
 	
 	/**
-	 * highlights a redundant node in the current OBDD if there is one
+	 * highlights all redundant nodes in the current OBDD if there are any
 	 * (Highlighting is not stored on the stack.)
 	 */
 	public void findRedundant() {
 		// retrieving the current (actual) OBDD
 		OBDD obdd = currentObdd.getObdd();
-		// searching for a redundant node
-		OBDD redundantNode = obdd.findRedundant();
-		// 
-		if (redundantNode == null) guiController.noRedundantNode();
+		// searching for all redundant nodes
+		LinkedList<OBDD> redundantNodes = obdd.findAllRedundant();
 		// calling the GUI controller to inform the user, if there is no 
 		// redundant node
+		if (redundantNodes.isEmpty()) guiController.noRedundantNode();
 		else {
-			// creating a new list of highlighted nodes containing only the 
-			// found redundant node
-			LinkedList<OBDD> highlightedNodes = new LinkedList<OBDD>();
-			highlightedNodes.add(redundantNode);
-			// setting the current OBDD's highlighted nodes
-			currentObdd.setHighlightedNodes(highlightedNodes);
+			// setting the current OBDD's highlighted nodes to the found 
+			// redundant nodes
+			currentObdd.setHighlightedNodes(redundantNodes);
 			// showing the visual OBDD
 			guiController.showObdd(currentObdd);
 		}
@@ -547,8 +556,8 @@ public class ObddController {
 	
 	
 	/**
-	 * removes the selected node (or a highlighted one, if none is selected) if
-	 * it's redundant
+	 * removes the selected node (or all highlighted ones, if none is 
+	 * selected) if they're redundant
 	 */
 	public void removeRedundant() {
 		// retrieving the current (actual) OBDD
@@ -556,8 +565,8 @@ public class ObddController {
 		// retrieving the selected and highlighted nodes
 		OBDD selectedNode = currentObdd.getSelectedNode();
 		LinkedList<OBDD> highlightedNodes = currentObdd.getHighlightedNodes();
-		// initializing a variable for the node to be removed
-		OBDD nodeToRemove = null;
+		// initializing a list for the nodes to be removed
+		LinkedList<OBDD> nodesToRemove = new LinkedList<OBDD>();
 		// creating the variable ordering from the stored string
 		VariableOrdering varOrd = VarOrdController.stringToVarOrd
 				(stringMap.get(currentName).getFirst());
@@ -567,31 +576,32 @@ public class ObddController {
 		AbstractObddLayout abstractObdd = 
 				new AbstractObddLayout(obddStack.peek());
 		// setting the node to be removed to the selected node, if there is one
-		if (selectedNode != null) nodeToRemove = selectedNode;
-		// Otherwise, if there are any highlighted nodes, the node to be 
-		// removed is set to the first one of them.
-		else if (!highlightedNodes.isEmpty()) 
-			nodeToRemove = highlightedNodes.peek();
-		// checking whether there is a node to be removed and it's redundant
-		if (nodeToRemove != null) {
-			if (nodeToRemove.isRedundant()) {
-				// removing the node
-				obdd = obdd.remove(nodeToRemove, varOrd);
-				// updating the abstract OBDD
-				abstractObdd.removeNode(nodeToRemove.getId(), obdd);
-				// pushing the changed abstract OBDD onto the stack
-				obddStack.push(abstractObdd);
-				// putting the stack back into the stack HashMap
-				obddStacks.put(currentName, obddStack);
-				// creating the new visual OBDD and showing it
-				currentObdd = new VisualObdd(abstractObdd, 
-						mainGui.getObddPane().getSize(), 
-						!obdd.isRobdd(varOrd));
-				guiController.showObdd(currentObdd);
+		if (selectedNode != null) nodesToRemove.add(selectedNode);
+		// Otherwise all highlighted nodes are to be removed.
+		else nodesToRemove.addAll(highlightedNodes);
+		// checking whether there are nodes to be removed and they're redundant
+		if (!nodesToRemove.isEmpty()) {
+			for (OBDD nodeToRemove : nodesToRemove) {
+				// calling the GUI controller to inform the user, if a node 
+				// isn't redundant
+				if (!nodeToRemove.isRedundant()) {
+					guiController.notRedundant();
+					return;
+				}
 			}
-			// calling the GUI controller to inform the user, if the node isn't
-			// redundant
-			else guiController.notRedundant();
+			// removing all nodes at once
+			obdd = obdd.remove(nodesToRemove, varOrd);
+			// updating the abstract OBDD
+			abstractObdd.reduceObdd(obdd);
+			// pushing the changed abstract OBDD onto the stack
+			obddStack.push(abstractObdd);
+			// putting the stack back into the stack HashMap
+			obddStacks.put(currentName, obddStack);
+			// creating the new visual OBDD and showing it
+			currentObdd = new VisualObdd(abstractObdd, 
+					mainGui.getObddPane().getSize(), 
+					!obdd.isRobdd(varOrd));
+			guiController.showObdd(currentObdd);
 		}
 		// calling the GUI controller to inform the user, if there aren't any 
 		// selected or highlighted nodes
@@ -651,6 +661,8 @@ public class ObddController {
 		currentObdd = new VisualObdd(abstractObdd, 
 				mainGui.getObddPane().getSize(), !removeRedundantNodes);
 		guiController.showObdd(currentObdd);
+		// collecting the node table's garbage if necessary
+		collectGarbage(varOrd);
 	}
 	
 	
@@ -722,6 +734,131 @@ public class ObddController {
 	}
 	
 	
+	/**
+	 * reorders the variables of the current OBDD's variable ordering by 
+	 * sifting
+	 * (All OBDDs with that variable ordering get the new one and are turned 
+	 *  into ROBDDs, so the user is asked first if not all of them are 
+	 *  ROBDDs.)
+	 */
+	public void siftVarOrd() {
+		// creating the variable ordering from the stored string
+		VariableOrdering varOrd = VarOrdController.stringToVarOrd
+				(stringMap.get(currentName).getFirst());
+		// checking whether each version of each OBDD with the variable 
+		// ordering is an ROBDD
+		boolean allRobdds = true;
+		for (String obddName : namesWithVarOrd(varOrd)) {
+			for (AbstractObddLayout abstractObdd : obddStacks.get(obddName)) {
+				OBDD obdd = abstractObdd.getObdd();
+				if (!obdd.isTerminal() && !obdd.isRobdd(varOrd)) 
+					allRobdds = false;
+			}
+		}
+		// If not, the variables are only reordered if the user wants to.
+		if (!allRobdds && !guiController.reorderingReduces()) return;
+		// reordering the variables
+		reorder(varOrd);
+	}
+	
+	
+	/**
+	 * auxiliary method that collects the garbage of a variable ordering's node
+	 * table, if it has grown enough since the last collection, and reorders 
+	 * its variables, if automatic reordering is enabled and the table has 
+	 * grown enough since the last reordering
+	 * (All versions of all OBDDs with that variable ordering are kept, so 
+	 *  they can still be shown and undone.)
+	 * @param varOrd - the variable ordering
+	 */
+	private void collectGarbage(VariableOrdering varOrd) {
+		// checking whether garbage should be collected
+		// (The garbage is also collected before the variables are reordered,
+		//  so only the nodes in use are counted.)
+		if (OBDD.needsGarbageCollection(varOrd) || 
+				OBDD.needsReordering(varOrd)) {
+			// initializing the list of OBDDs still in use
+			LinkedList<OBDD> roots = new LinkedList<OBDD>();
+			// adding each version of each OBDD with the same variable ordering
+			for (String obddName : namesWithVarOrd(varOrd)) {
+				for (AbstractObddLayout abstractObdd : obddStacks.get(obddName))
+					roots.add(abstractObdd.getObdd());
+			}
+			// collecting the garbage
+			OBDD.collectGarbage(varOrd, roots);
+		}
+		// checking whether the variables should be reordered
+		if (OBDD.needsReordering(varOrd)) reorder(varOrd);
+	}
+	
+	
+	/**
+	 * auxiliary method that reorders the variables of a variable ordering by 
+	 * sifting and updates all versions of all OBDDs with that variable 
+	 * ordering
+	 * @param varOrd - the variable ordering
+	 */
+	private void reorder(VariableOrdering varOrd) {
+		// the names of the OBDDs with the variable ordering
+		LinkedList<String> obddNames = namesWithVarOrd(varOrd);
+		// initializing the list of the OBDDs' versions
+		LinkedList<OBDD> roots = new LinkedList<OBDD>();
+		for (String obddName : obddNames) {
+			for (AbstractObddLayout abstractObdd : obddStacks.get(obddName))
+				roots.add(abstractObdd.getObdd());
+		}
+		// sifting, which replaces each version by the one with the new 
+		// variable ordering
+		VariableOrdering newVarOrd = OBDD.sift(varOrd, roots);
+		String newVarOrdString = VarOrdController.varOrdToString(newVarOrd);
+		// iterator for the new versions (in the same order as the old ones)
+		Iterator<OBDD> iter = roots.iterator();
+		for (String obddName : obddNames) {
+			// initializing the OBDD's new stack
+			Stack<AbstractObddLayout> obddStack = 
+					new Stack<AbstractObddLayout>();
+			// creating a new abstract OBDD layout for each version since the 
+			// OBDDs' nodes have changed
+			for (int i = 0; i < obddStacks.get(obddName).size(); i++) 
+				obddStack.push(new AbstractObddLayout(iter.next()));
+			obddStacks.put(obddName, obddStack);
+			// storing the new variable ordering string
+			stringMap.put(obddName, new Pair<String,String>(newVarOrdString, 
+					stringMap.get(obddName).getSecond()));
+		}
+		// showing the current OBDD's new version if it has been reordered
+		if (obddNames.contains(currentName)) {
+			AbstractObddLayout abstractObdd = obddStacks.get(currentName).peek();
+			currentObdd = new VisualObdd(abstractObdd, 
+					mainGui.getObddPane().getSize(), 
+					!abstractObdd.getObdd().isRobdd(newVarOrd));
+			guiController.showObdd(currentObdd);
+			guiController.updateTextFields(currentName, newVarOrdString, 
+					stringMap.get(currentName).getSecond());
+		}
+	}
+	
+	
+	/**
+	 * auxiliary method that provides the names of all OBDDs with a variable 
+	 * ordering
+	 * @param varOrd - the variable ordering
+	 * @return
+	 */
+	private LinkedList<String> namesWithVarOrd(VariableOrdering varOrd) {
+		// initializing the list of names
+		LinkedList<String> obddNames = new LinkedList<String>();
+		// adding each OBDD's name whose variable ordering is the same
+		for (String obddName : obddStacks.keySet()) {
+			VariableOrdering obddVarOrd = VarOrdController.stringToVarOrd
+					(stringMap.get(obddName).getFirst());
+			if (obddVarOrd.equals(varOrd)) 
+				obddNames.add(obddName);
+		}
+		return obddNames;
+	}
+	
+	
 	/**
 	 * auxiliary method that states whether an OBDD name is improper
 	 * @param obddName
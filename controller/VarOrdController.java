@@ -36,6 +36,24 @@ public class VarOrdController {
 	}
 	
 	
+	/**
+	 * method that provides a String representing a given VariableOrdering
+	 * (e.g. "X2>X1>X3")
+	 * @param varOrd - the VariableOrdering
+	 * @return
+	 */
+	public static String varOrdToString(VariableOrdering varOrd) {
+		// initializing the String
+		String varOrdString = "";
+		// adding each variable, separated by '>'
+		for (int var : varOrd.getOrdList()) {
+			if (!varOrdString.isEmpty()) varOrdString += ">";
+			varOrdString += "X" + var;
+		}
+		return varOrdString;
+	}
+	
+	
 	/**
 	 * provides the algorithm that returns an ordering list for a given String 
 	 * after removing all spaces from the String
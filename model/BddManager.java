@@ -0,0 +1,149 @@
+package model;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * manager of the node tables of all VariableOrderings and the settings of
+ * their operations
+ * Each node table is locked separately, so OBDDs of different 
+ * VariableOrderings can be built by different threads at the same time. 
+ * The operations on OBDDs of the same VariableOrdering may run at the same 
+ * time as well, but garbage collection and reordering wait for them (and 
+ * vice versa).
+ * (The OBDD class uses the default manager.)
+ * @author TimNP
+ *
+ */
+public class BddManager {
+	/**
+	 * the default manager
+	 */
+	private static final BddManager defaultManager = new BddManager();
+
+	/**
+	 * the node tables of all VariableOrderings used so far
+	 */
+	private final ConcurrentHashMap<VariableOrdering, NodeTable> tables =
+			new ConcurrentHashMap<VariableOrdering, NodeTable>();
+	/**
+	 * the maximal number of slots of each node table's operation caches
+	 * (The caches grow with the unique table up to that number.)
+	 */
+	private volatile int cacheSize = OperationCache.DEFAULT_SIZE;
+	/**
+	 * boolean that states whether the variables are reordered automatically
+	 * once a table has grown enough
+	 * (disabled by default, since reordering changes the VariableOrdering 
+	 *  the user has chosen)
+	 */
+	private volatile boolean autoReordering = false;
+	/**
+	 * the number of recursion levels of the parallel apply algorithm in which
+	 * the high cofactors are computed by separate tasks
+	 */
+	private volatile int parallelDepth = 8;
+
+
+
+	/**
+	 * getter for the default manager
+	 * @return
+	 */
+	public static BddManager getDefault() {
+		return defaultManager;
+	}
+
+
+	/**
+	 * provides the node table for a VariableOrdering
+	 * (All OBDDs with equal VariableOrderings share their node table.)
+	 * @param varOrd
+	 * @return
+	 */
+	public NodeTable getTable(VariableOrdering varOrd) {
+		// retrieving the VariableOrdering's node table
+		NodeTable table = tables.get(varOrd);
+		// creating a new node table if there isn't one yet
+		// (VariableOrderings are immutable, so they can be used as keys.)
+		if (table == null) {
+			table = new NodeTable(this, varOrd);
+			// Another thread may have registered a table in the meantime.
+			NodeTable existing = tables.putIfAbsent(varOrd, table);
+			if (existing != null) table = existing;
+		}
+		return table;
+	}
+
+
+	/**
+	 * registers a node table for its new VariableOrdering after reordering
+	 * @param oldVarOrd - the table's previous VariableOrdering
+	 * @param table
+	 * @return the table that was already registered for the new
+	 * 		   VariableOrdering; null if the given table has been registered
+	 */
+	NodeTable register(VariableOrdering oldVarOrd, NodeTable table) {
+		tables.remove(oldVarOrd, table);
+		return tables.putIfAbsent(table.getVarOrd(), table);
+	}
+
+
+	/**
+	 * sets the maximal number of slots of the node tables' operation caches
+	 * (discarding all cached results)
+	 * @param size - the number of slots (rounded up to a power of two)
+	 */
+	public void setCacheSize(int size) {
+		cacheSize = size;
+		// replacing the existing tables' caches
+		for (NodeTable table : tables.values()) table.resizeCaches();
+	}
+
+
+	/**
+	 * getter for the maximal number of slots of the operation caches
+	 * @return
+	 */
+	public int getCacheSize() {
+		return cacheSize;
+	}
+
+
+	/**
+	 * sets whether the variables are reordered automatically once a node
+	 * table has grown enough
+	 * @param enabled
+	 */
+	public void setAutoReordering(boolean enabled) {
+		autoReordering = enabled;
+	}
+
+
+	/**
+	 * @return whether the variables are reordered automatically
+	 */
+	public boolean isAutoReordering() {
+		return autoReordering;
+	}
+
+
+	/**
+	 * sets the number of recursion levels of the parallel apply algorithm in
+	 * which the high cofactors are computed by separate tasks
+	 * (Below that depth each task continues sequentially.)
+	 * @param depth
+	 */
+	public void setParallelDepth(int depth) {
+		parallelDepth = depth;
+	}
+
+
+	/**
+	 * getter for the number of recursion levels of the parallel apply
+	 * algorithm in which separate tasks are created
+	 * @return
+	 */
+	public int getParallelDepth() {
+		return parallelDepth;
+	}
+}
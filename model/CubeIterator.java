@@ -0,0 +1,116 @@
+package model;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.NoSuchElementException;
+
+/**
+ * iterator over the paths from a node to the 1-terminal in a node table,
+ * each given as a cube: the assignment of the variables on the path
+ * (Variables that aren't on a path are "don't cares".)
+ * The paths are found one at a time by a depth-first search, so only the
+ * current path is kept.
+ * The node table mustn't be collected or reordered during the iteration.
+ * @author TimNP
+ *
+ */
+public class CubeIterator implements Iterator<LinkedHashMap<Integer, Boolean>> {
+	/**
+	 * the node table
+	 */
+	private final NodeTable table;
+	/**
+	 * the nodes (edges) on the current path, beginning with the root
+	 */
+	private final int[] path;
+	/**
+	 * for each node on the current path, whether the path continues with
+	 * its high child
+	 */
+	private final boolean[] high;
+	/**
+	 * the position of the current path's last node (-1 for the empty path)
+	 */
+	private int top = -1;
+	/**
+	 * whether the current path leads to the 1-terminal and hasn't been
+	 * returned yet
+	 */
+	private boolean found;
+
+
+	/**
+	 * constructor for an iterator over the cubes of a node
+	 * @param table - the node table
+	 * @param root - the node (edge)
+	 */
+	public CubeIterator(NodeTable table, int root) {
+		this.table = table;
+		// A path can't be longer than the VariableOrdering.
+		int depth = table.getVarOrd().size();
+		path = new int[depth];
+		high = new boolean[depth];
+		// searching the first path to the 1-terminal
+		descend(root);
+	}
+
+
+	/**
+	 * states whether there is another element
+	 */
+	@Override
+	public boolean hasNext() {
+		return found;
+	}
+
+
+	/**
+	 * provides the next element
+	 */
+	@Override
+	public LinkedHashMap<Integer, Boolean> next() {
+		if (!found) throw new NoSuchElementException();
+		// assigning each variable on the path the value of the branch taken
+		LinkedHashMap<Integer, Boolean> cube =
+				new LinkedHashMap<Integer, Boolean>();
+		for (int i = 0; i <= top; i++)
+			cube.put(table.getVar(path[i]), high[i]);
+		// searching the next path as if the current one led to the
+		// 0-terminal
+		descend(0);
+		return cube;
+	}
+
+
+	/**
+	 * auxiliary method that continues the depth-first search at a node until
+	 * the next path to the 1-terminal is found or the search is complete
+	 * @param node - the node (edge) the current path has reached
+	 */
+	private void descend(int node) {
+		while (true) {
+			// following the high children down to a terminal
+			while (node > 1) {
+				path[++top] = node;
+				high[top] = true;
+				node = table.getHigh(node);
+			}
+			// A path to the 1-terminal is the next cube.
+			if (node == 1) {
+				found = true;
+				return;
+			}
+			// going back up to the lowest node whose low child hasn't been
+			// visited yet
+			while (top >= 0 && !high[top]) top--;
+			// If there is none, all paths have been visited.
+			if (top < 0) {
+				found = false;
+				return;
+			}
+			// continuing with that node's low child
+			high[top] = false;
+			node = table.getLow(path[top]);
+		}
+	}
+}
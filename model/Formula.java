@@ -1,5 +1,6 @@
 package model;
 
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.regex.*;
 
@@ -352,6 +353,73 @@ public class Formula {
 	}
 	
 	
+	/**
+	 * provides the ROBDD representing this Formula by combining the ROBDDs of
+	 * its sub-Formulas (without constructing the truth table)
+	 * (Variables that aren't part of the VariableOrdering are assigned zero, 
+	 *  as in the truth table.)
+	 * @param varOrd - the VariableOrdering
+	 * @return
+	 */
+	public OBDD toRobdd(VariableOrdering varOrd) {
+		// retrieving the VariableOrdering's node table
+		NodeTable table = NodeTable.forOrdering(varOrd);
+		// compiling the Formula into a node of the table
+		int node = compile(table, new IdentityHashMap<Formula, Integer>());
+		return OBDD.fromTable(table, node);
+	}
+	
+	
+	/**
+	 * auxiliary method that compiles the Formula into a node of a node table,
+	 * compiling each sub-Formula only once
+	 * @param table - the node table
+	 * @param compiled - the nodes of the sub-Formulas compiled so far
+	 * @return the node
+	 */
+	private int compile(NodeTable table, 
+			IdentityHashMap<Formula, Integer> compiled) {
+		// returning the node if the Formula has already been compiled
+		Integer node = compiled.get(this);
+		if (node != null) return node;
+		// initializing the result
+		int result;
+		// a switch for the possible constructors for this Formula
+		switch (constructor) {
+		// Zeroth case: The Formula represents a constant.
+		case 0:
+			result = value ? 1 : 0;
+			break;
+		// First case: The Formula represents a variable.
+		case 1:
+			// A variable that isn't part of the VariableOrdering (i.e. isn't 
+			// above the terminals) is assigned zero.
+			result = table.isAbove(var, 0) ? table.mk(var, 1, 0) : 0;
+			break;
+		// Second case: The Formula represents a logical negation.
+		case 2:
+			result = table.negate(firstSuccessor.compile(table, compiled));
+			break;
+		// Third case: The Formula represents a logical conjunction.
+		case 3:
+			result = table.apply(firstSuccessor.compile(table, compiled), 
+					secondSuccessor.compile(table, compiled), OBDD.AND);
+			break;
+		// Fourth case: The Formula represents a logical disjunction.
+		case 4:
+			result = table.apply(firstSuccessor.compile(table, compiled), 
+					secondSuccessor.compile(table, compiled), OBDD.OR);
+			break;
+		// Default case: None of the given constructors was used.
+		default:
+			// tentative default value: the 0-terminal
+			result = 0;
+		}
+		compiled.put(this, result);
+		return result;
+	}
+	
+	
 	/**
 	 * evaluates the Formula relating to a given assignment
 	 * @param assignedOne - list of all variables assigned one
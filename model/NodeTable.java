@@ -0,0 +1,2468 @@
+package model;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Nodes are referred to by edges: the node's index shifted left by one bit, 
+ * with the lowest bit stating whether the edge is complemented, i.e. whether 
+ * it refers to the node's negation. Index 0 is the only terminal, so edge 0 is
+ * the 0-terminal and edge 1 (its complement) is the 1-terminal.
+ * Several threads may build nodes at the same time: The operations share the
+ * table's read lock, garbage collection and reordering take its write lock, 
+ * so they wait until no operation uses the nodes anymore. The unique table's
+ * chains are divided into stripes with a lock of their own, so threads only 
+ * wait for each other if they look up or insert nodes of the same stripe at
+ * the same time. New indices are allocated under the table's monitor. The 
+ * operation caches are shared without locking. The getters aren't locked, 
+ * since a node doesn't change once it's been created (except for garbage 
+ * collection and reordering, so OBDDs mustn't be read by other threads 
+ * meanwhile).
+ * @author TimNP
+ *
+ */
+public class NodeTable {
+	/**
+	 * the tables' initial capacity (has to be a power of two)
+	 */
+	private static final int INITIAL_CAPACITY = 1024;
+	/**
+	 * the number of the unique table's stripes (has to be a power of two and 
+	 * not greater than the initial capacity)
+	 * (A chain's stripe is given by the lowest bits of its nodes' hash 
+	 *  values, so it stays the same when the number of chains is doubled.)
+	 */
+	private static final int STRIPES = 64;
+	/**
+	 * end mark of the unique table's chains
+	 */
+	private static final int END = -1;
+	/**
+	 * chain "successor" of the nodes that aren't in the unique table
+	 */
+	private static final int NOT_HASHED = -2;
+	/**
+	 * level of the terminals (lower than any variable's one)
+	 */
+	private static final int TERMINAL_LEVEL = Integer.MAX_VALUE;
+	/**
+	 * "variable" of freed node indices
+	 */
+	private static final int FREE = -2;
+	/**
+	 * the smallest number of nodes for which garbage is collected
+	 */
+	private static final int MIN_COLLECTION_SIZE = 1 << 16;
+	/**
+	 * the smallest number of nodes for which the variables are reordered 
+	 * automatically
+	 */
+	private static final int MIN_REORDERING_SIZE = 1 << 16;
+	/**
+	 * the factor by which sifting a variable may enlarge the table before the
+	 * variable isn't moved any further in that direction
+	 */
+	private static final double MAX_GROWTH = 1.2;
+	/**
+	 * operation code of the existential quantification for the operation 
+	 * cache
+	 */
+	private static final int EXISTS = -2;
+	/**
+	 * operation code of the restriction for the operation cache
+	 */
+	private static final int RESTRICT = -3;
+	/**
+	 * operation code of the composition for the operation cache
+	 * (The composed variable is subtracted, so each variable has its own 
+	 *  code.)
+	 */
+	private static final int COMPOSE = -4;
+
+	/**
+	 * the manager the table belongs to
+	 */
+	private final BddManager manager;
+	/**
+	 * lock shared by the operations (read lock) and taken by garbage 
+	 * collection and reordering alone (write lock)
+	 */
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	/**
+	 * the locks of the unique table's stripes
+	 */
+	private final ReentrantLock[] stripeLocks = new ReentrantLock[STRIPES];
+	/**
+	 * the node arrays
+	 * (They're only replaced under the table's monitor, by larger copies, and 
+	 *  published through this volatile field, so a thread that sees the 
+	 *  copies also sees their contents. Edges are passed between threads 
+	 *  through the locks or the operation caches, so a thread always sees 
+	 *  arrays containing the nodes of its edges.)
+	 */
+	private volatile Nodes nodes;
+	/**
+	 * the first node of each unique table chain
+	 * (only replaced while all stripes are locked)
+	 */
+	private int[] buckets;
+	/**
+	 * the number of used node indices (including the terminal's index 0)
+	 */
+	private int size = 1;
+	/**
+	 * the number of nodes in the unique table
+	 */
+	private volatile int hashedSize = 0;
+	/**
+	 * the first freed node index (chained by the freed indices' high 
+	 * "children")
+	 */
+	private int freeList = END;
+	/**
+	 * the number of freed node indices
+	 */
+	private int freeSize = 0;
+	/**
+	 * the number of nodes that survived the last garbage collection
+	 */
+	private int liveAfterCollection = 0;
+	/**
+	 * each variable's level, i.e. its position in the VariableOrdering
+	 * (-1 for variables that aren't part of it)
+	 */
+	private int[] levels;
+	/**
+	 * each level's variable
+	 */
+	private int[] order;
+	/**
+	 * the VariableOrdering the table is registered for
+	 */
+	private volatile VariableOrdering varOrd;
+	/**
+	 * the number of nodes above which the variables are reordered 
+	 * automatically
+	 */
+	private volatile int reorderingSize = MIN_REORDERING_SIZE;
+	/**
+	 * operation cache shared by the table's operations
+	 * (For the if-then-else algorithm, which the apply algorithm is based on,
+	 *  the third operand takes the operation code's place, the other 
+	 *  operations use negative codes. The cache isn't cleared between two 
+	 *  calls, so results for shared nodes are reused by later operations. 
+	 *  Since it's bounded and lossy, it doesn't grow with the number of 
+	 *  operations.)
+	 */
+	private volatile OperationCache cache;
+	/**
+	 * operation cache for the relational product
+	 * (The cube of the quantified variables takes the operation code's 
+	 *  place.)
+	 */
+	private volatile OperationCache andExistsCache;
+	/**
+	 * the OBDDs of the edges that are still referred to
+	 * (Each edge has only one OBDD at a time, so equal nodes are the same 
+	 *  object. The OBDDs are only referred to weakly, so an OBDD nobody uses 
+	 *  anymore can be discarded, along with its children and indices.)
+	 */
+	private final ConcurrentHashMap<Integer, ObddReference> obdds = 
+			new ConcurrentHashMap<Integer, ObddReference>();
+	/**
+	 * the references of the discarded OBDDs, whose entries are removed 
+	 * when the next OBDD is stored
+	 */
+	private final ReferenceQueue<OBDD> discardedObdds = 
+			new ReferenceQueue<OBDD>();
+
+
+
+	/**
+	 * constructor for an empty node table
+	 * @param manager - the manager the table belongs to
+	 * @param varOrd - the VariableOrdering
+	 */
+	NodeTable(BddManager manager, VariableOrdering varOrd) {
+		this.manager = manager;
+		// initializing the node arrays
+		Nodes nodes = new Nodes(INITIAL_CAPACITY);
+		// initializing the empty unique table chains
+		buckets = new int[INITIAL_CAPACITY];
+		Arrays.fill(buckets, END);
+		for (int stripe = 0; stripe < STRIPES; stripe++) 
+			stripeLocks[stripe] = new ReentrantLock();
+		// initializing the operation caches
+		cache = new OperationCache(
+				Math.min(manager.getCacheSize(), INITIAL_CAPACITY));
+		andExistsCache = new OperationCache(
+				Math.min(manager.getCacheSize(), INITIAL_CAPACITY));
+		// the terminal: edge 0 and its complement, edge 1
+		nodes.vars[0] = -1;
+		nodes.highs[0] = 0;
+		nodes.lows[0] = 0;
+		nodes.next[0] = NOT_HASHED;
+		this.nodes = nodes;
+		// retrieving the highest variable number
+		int maxVar = 0;
+		for (int level = 0; level < varOrd.size(); level++) 
+			maxVar = Math.max(maxVar, varOrd.get(level));
+		// initializing the levels and their variables
+		levels = new int[maxVar + 1];
+		Arrays.fill(levels, -1);
+		order = new int[varOrd.size()];
+		for (int level = 0; level < order.length; level++) {
+			order[level] = varOrd.get(level);
+			levels[order[level]] = level;
+		}
+		this.varOrd = varOrd;
+	}
+
+
+	/**
+	 * provides the default manager's node table for a VariableOrdering
+	 * (All OBDDs with equal VariableOrderings share their node table.)
+	 * @param varOrd
+	 * @return
+	 */
+	public static NodeTable forOrdering(VariableOrdering varOrd) {
+		return BddManager.getDefault().getTable(varOrd);
+	}
+
+
+	/**
+	 * getter for the number of used node indices
+	 * (synchronized like the allocation of indices)
+	 * @return
+	 */
+	public synchronized int size() {
+		return size;
+	}
+
+
+	/**
+	 * @return the number of nodes currently stored (including the terminal)
+	 */
+	public synchronized int liveSize() {
+		return size - freeSize;
+	}
+
+
+	/**
+	 * provides the table's read lock, which keeps garbage collection and 
+	 * reordering from changing the nodes while it's held
+	 * @return
+	 */
+	ReentrantReadWriteLock.ReadLock readLock() {
+		return lock.readLock();
+	}
+
+
+	/**
+	 * provides the OBDD of an edge
+	 * @param node - the edge
+	 * @return the OBDD; null if it hasn't been created yet or has been 
+	 * 		   discarded
+	 */
+	OBDD getObdd(int node) {
+		ObddReference reference = obdds.get(node);
+		return (reference == null) ? null : reference.get();
+	}
+
+
+	/**
+	 * stores the OBDD of an edge, unless there already is one
+	 * @param node - the edge
+	 * @param obdd
+	 * @return the edge's (only) OBDD
+	 */
+	OBDD putObdd(int node, OBDD obdd) {
+		// removing the entries of discarded OBDDs
+		// (unless they've already been replaced)
+		ObddReference discarded;
+		while ((discarded = (ObddReference) discardedObdds.poll()) != null) 
+			obdds.remove(discarded.node, discarded);
+		ObddReference reference = 
+				new ObddReference(node, obdd, discardedObdds);
+		while (true) {
+			ObddReference existing = obdds.putIfAbsent(node, reference);
+			if (existing == null) return obdd;
+			// returning the existing OBDD if it hasn't been discarded yet
+			OBDD existingObdd = existing.get();
+			if (existingObdd != null) return existingObdd;
+			// Otherwise its entry is replaced (unless another thread has 
+			// replaced it already).
+			if (obdds.replace(node, existing, reference)) return obdd;
+		}
+	}
+
+
+	/**
+	 * @param node - the node's edge
+	 * @return the node's variable (-1 for the terminals)
+	 */
+	public int getVar(int node) {
+		return nodes.vars[node >>> 1];
+	}
+
+
+	/**
+	 * @param node - the node's edge
+	 * @return the node's high child edge (complemented if the node's edge is)
+	 */
+	public int getHigh(int node) {
+		return nodes.highs[node >>> 1] ^ (node & 1);
+	}
+
+
+	/**
+	 * @param node - the node's edge
+	 * @return the node's low child edge (complemented if the node's edge is)
+	 */
+	public int getLow(int node) {
+		return nodes.lows[node >>> 1] ^ (node & 1);
+	}
+
+
+	/**
+	 * @param node
+	 * @return the level of the node's variable
+	 * 		   (lower than all variables' ones for the terminals)
+	 */
+	public int level(int node) {
+		return (node <= 1) ? TERMINAL_LEVEL : levels[nodes.vars[node >>> 1]];
+	}
+
+
+	/**
+	 * states whether a variable is higher than a node's variable by means of
+	 * the table's VariableOrdering
+	 * @param var
+	 * @param node
+	 * @return
+	 */
+	public boolean isAbove(int var, int node) {
+		// Variables that aren't part of the VariableOrdering aren't above any
+		// node.
+		if (var < 0 || var >= levels.length || levels[var] < 0) return false;
+		return levels[var] < level(node);
+	}
+
+
+	/**
+	 * provides the node with the given variable and children, using the
+	 * unique table: If both children are the same, the child is returned
+	 * instead of a redundant node. If there already is a node with the given
+	 * variable and children, that node is returned instead of a new one.
+	 * (The variable has to be above both children.)
+	 * @param var
+	 * @param high
+	 * @param low
+	 * @return the (possibly shared) node's edge
+	 */
+	public int mk(int var, int high, int low) {
+		lock.readLock().lock();
+		try {
+			return mkNode(var, high, low);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+
+	/**
+	 * auxiliary method that provides the node with the given variable and 
+	 * children like mk, locking only the stripe of the node's chain
+	 * (The caller has to hold the table's lock.)
+	 * @param var
+	 * @param high
+	 * @param low
+	 * @return the (possibly shared) node's edge
+	 */
+	private int mkNode(int var, int high, int low) {
+		// If both children are the same, the node would be redundant.
+		if (high == low) return high;
+		// Only nodes with a regular high edge are stored: A node with a 
+		// complemented one is the complement of the node with both children 
+		// complemented.
+		if ((high & 1) != 0) return mkNode(var, high ^ 1, low ^ 1) ^ 1;
+		int hash = hash(var, high, low);
+		int node;
+		ReentrantLock stripeLock = stripeLocks[hash & (STRIPES - 1)];
+		stripeLock.lock();
+		try {
+			// looking for an existing node with the same variable and 
+			// children
+			node = find(var, high, low, hash);
+			// Otherwise a new node is created and put into the unique table.
+			if (node == END) node = insert(var, high, low, hash);
+		} finally {
+			stripeLock.unlock();
+		}
+		// doubling the number of chains if they get too long on average
+		if (hashedSize > buckets.length) rehash();
+		return node << 1;
+	}
+
+
+	/**
+	 * adds a new node with the given variable and children without using the
+	 * unique table (used for complete OBDDs that may contain equivalent and
+	 * redundant nodes)
+	 * @param var
+	 * @param high
+	 * @param low
+	 * @return the new node's (regular) edge
+	 */
+	public int add(int var, int high, int low) {
+		lock.readLock().lock();
+		try {
+			return newNode(var, high, low, NOT_HASHED) << 1;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+
+	/**
+	 * applies a boolean operation on two nodes by means of the if-then-else 
+	 * algorithm
+	 * @param f - the first node
+	 * @param g - the second node
+	 * @param op - the boolean operation (as defined in the OBDD class)
+	 * @return the resulting node
+	 */
+	public int apply(int f, int g, int op) {
+		lock.readLock().lock();
+		try {
+			return apply(f, g, op, null);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+
+	/**
+	 * applies a boolean operation on two nodes by means of the if-then-else 
+	 * algorithm, computing the cofactors in parallel tasks of the common 
+	 * fork/join pool
+	 * (The result is the same node as the one of the sequential algorithm. 
+	 *  Other operations may use the table meanwhile.)
+	 * @param f - the first node
+	 * @param g - the second node
+	 * @param op - the boolean operation (as defined in the OBDD class)
+	 * @return the resulting node
+	 */
+	public int parallelApply(final int f, final int g, final int op) {
+		lock.readLock().lock();
+		try {
+			final ParallelContext context = new ParallelContext(f, g);
+			// The recursion runs in the pool, so its tasks can be forked.
+			int result = ForkJoinPool.commonPool().invoke(
+					new RecursiveTask<Integer>() {
+						private static final long serialVersionUID = 1L;
+
+						protected Integer compute() {
+							return apply(f, g, op, context);
+						}
+					});
+			// putting the new nodes into the unique table
+			return context.translate(result);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+
+	/**
+	 * auxiliary method that applies a boolean operation on two nodes by 
+	 * means of the if-then-else algorithm
+	 * @param f - the first node
+	 * @param g - the second node
+	 * @param op - the boolean operation (as defined in the OBDD class)
+	 * @param context - the context of the parallel algorithm (null for the 
+	 * 		  sequential one)
+	 * @return the resulting node
+	 */
+	private int apply(int f, int g, int op, ParallelContext context) {
+		// switch for the sixteen possible boolean operations
+		switch (op) {
+		case OBDD.CONTRADICTION:
+			return 0;
+		case OBDD.AND:
+			return ite(f, g, 0, context, 0);
+		case OBDD.A_GREATER_THAN_B:
+			// f and not g: if g then 0 else f
+			return ite(g, 0, f, context, 0);
+		case OBDD.IDENTITY_OF_A:
+			return f;
+		case OBDD.B_GREATER_THAN_A:
+			return ite(f, 0, g, context, 0);
+		case OBDD.IDENTITY_OF_B:
+			return g;
+		case OBDD.XOR:
+			return ite(f, g ^ 1, g, context, 0);
+		case OBDD.OR:
+			return ite(f, 1, g, context, 0);
+		case OBDD.NOR:
+			return ite(f, 0, g ^ 1, context, 0);
+		case OBDD.EQUIVALENCE:
+			return ite(f, g, g ^ 1, context, 0);
+		case OBDD.NOT_B:
+			return g ^ 1;
+		case OBDD.B_IMPLIES_A:
+			return ite(f, 1, g ^ 1, context, 0);
+		case OBDD.NOT_A:
+			return f ^ 1;
+		case OBDD.A_IMPLIES_B:
+			return ite(f, g, 1, context, 0);
+		case OBDD.NAND:
+			return ite(f, g ^ 1, 1, context, 0);
+		case OBDD.TAUTOLOGY:
+			return 1;
+		default:
+			throw new IllegalArgumentException("no boolean operation: " + op);
+		}
+	}
+
+
+	/**
+	 * negates a node
+	 * (3.4.5)
+	 * (Complementing the edge suffices, so no node has to be created.)
+	 * @param f
+	 * @return the negated node
+	 */
+	public int negate(int f) {
+		return f ^ 1;
+	}
+
+
+	/**
+	 * provides the node representing "if f then g else h"
+	 * @param f - the condition
+	 * @param g - the "then" node
+	 * @param h - the "else" node
+	 * @return the resulting node
+	 */
+	public int ite(int f, int g, int h) {
+		lock.readLock().lock();
+		try {
+			return ite(f, g, h, null, 0);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+
+	/**
+	 * auxiliary method that provides the node representing "if f then g else 
+	 * h"
+	 * @param f - the condition
+	 * @param g - the "then" node
+	 * @param h - the "else" node
+	 * @param context - the context of the parallel algorithm (null for the 
+	 * 		  sequential one)
+	 * @param depth - the recursion level
+	 * @return the resulting node
+	 */
+	private int ite(int f, int g, int h, ParallelContext context, int depth) {
+		// terminal cases: constant conditions and equal branches
+		if (f == 1) return g;
+		if (f == 0) return h;
+		if (g == h) return g;
+		// If the condition or its complement is one of the branches, that 
+		// branch can be replaced by the respective constant.
+		if (f == g) g = 1;
+		else if (f == (g ^ 1)) g = 0;
+		if (f == h) h = 0;
+		else if (f == (h ^ 1)) h = 1;
+		// checking the terminal cases again for the replaced branches
+		if (g == h) return g;
+		// "if f then 1 else 0" is f itself, "if f then 0 else 1" its negation.
+		if (g == 1 && h == 0) return f;
+		if (g == 0 && h == 1) return f ^ 1;
+		// normalizing commutable triples to standard triples with the higher 
+		// node as condition, so commuted calls share their cache entries: 
+		// if f then 1 else h = if h then 1 else f
+		if (g == 1) {
+			if (precedes(h, f)) {
+				int swap = f;
+				f = h;
+				h = swap;
+			}
+		}
+		// if f then g else 0 = if g then f else 0
+		else if (h == 0) {
+			if (precedes(g, f)) {
+				int swap = f;
+				f = g;
+				g = swap;
+			}
+		}
+		// if f then g else 1 = if not g then not f else 1
+		else if (h == 1) {
+			if (precedes(g, f)) {
+				int swap = f;
+				f = g ^ 1;
+				g = swap ^ 1;
+			}
+		}
+		// if f then 0 else h = if not h then 0 else not f
+		else if (g == 0) {
+			if (precedes(h, f)) {
+				int swap = f;
+				f = h ^ 1;
+				h = swap ^ 1;
+			}
+		}
+		// if f then g else not g = if g then f else not f
+		else if (g == (h ^ 1)) {
+			if (precedes(g, f)) {
+				int swap = f;
+				f = g;
+				g = swap;
+				h = swap ^ 1;
+			}
+		}
+		// normalizing the complement bits, so only regular conditions and 
+		// regular "then" nodes are cached:
+		// if not f then g else h = if f then h else g
+		if ((f & 1) != 0) {
+			f ^= 1;
+			int swap = g;
+			g = h;
+			h = swap;
+		}
+		// if f then not g else not h = not (if f then g else h)
+		int complement = g & 1;
+		g ^= complement;
+		h ^= complement;
+		// Return the node stated for the triple in the operation cache if 
+		// there is one.
+		// (The parallel algorithm also looks at its results with new nodes, 
+		//  which aren't in the table's cache yet.)
+		int computed = cache.lookup(h, f, g);
+		if (computed == -1 && context != null) 
+			computed = context.lookup(f, g, h);
+		if (computed != -1) return computed ^ complement;
+		// the top level of the three nodes
+		int topLevel = Math.min(level(f), Math.min(level(g), level(h)));
+		// the top level's variable
+		int topVar = (level(f) == topLevel) ? getVar(f) : 
+			(level(g) == topLevel) ? getVar(g) : getVar(h);
+		// computing the results for the high and the low cofactors
+		int high, low;
+		if (context != null && depth < context.parallelDepth) {
+			// computing the high cofactors' result in a separate task
+			IteTask highTask = new IteTask(highCofactor(f, topLevel), 
+					highCofactor(g, topLevel), highCofactor(h, topLevel), 
+					context, depth + 1);
+			highTask.fork();
+			low = ite(lowCofactor(f, topLevel), lowCofactor(g, topLevel), 
+					lowCofactor(h, topLevel), context, depth + 1);
+			high = highTask.join();
+		} else {
+			high = ite(highCofactor(f, topLevel), highCofactor(g, topLevel), 
+					highCofactor(h, topLevel), context, depth + 1);
+			low = ite(lowCofactor(f, topLevel), lowCofactor(g, topLevel), 
+					lowCofactor(h, topLevel), context, depth + 1);
+		}
+		// combining the results
+		int result = (context == null) ? mkNode(topVar, high, low) : 
+			context.mk(topVar, high, low);
+		// putting the resulting node into the operation cache
+		// (The parallel algorithm keeps the results with new nodes, i.e. 
+		//  negative edges, until the nodes are put into the table.)
+		if (result >= 0) cache.insert(h, f, g, result);
+		else context.insert(f, g, h, result);
+		return result ^ complement;
+	}
+
+
+	/**
+	 * provides the cube of a set of variables, i.e. the conjunction of all 
+	 * of them
+	 * (Variables that aren't part of the VariableOrdering are ignored.)
+	 * @param varSet
+	 * @return the cube's node
+	 */
+	public int cube(Collection<Integer> varSet) {
+		lock.readLock().lock();
+		try {
+			// marking the variables of the set
+			boolean[] inSet = new boolean[levels.length];
+			for (int var : varSet) 
+				if (var >= 0 && var < levels.length) inSet[var] = true;
+			// adding the variables from the lowest level to the highest one
+			int cube = 1;
+			for (int level = order.length - 1; level >= 0; level--) 
+				if (inSet[order[level]]) cube = mkNode(order[level], cube, 0);
+			return cube;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+
+	/**
+	 * existentially quantifies the variables of a cube in a node, i.e. 
+	 * provides the disjunction of the node's cofactors for all assignments 
+	 * of those variables
+	 * @param f - the node
+	 * @param cube - the cube of the quantified variables
+	 * @return the resulting node
+	 */
+	public int exists(int f, int cube) {
+		lock.readLock().lock();
+		try {
+			return existsRec(f, cube);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+
+	/**
+	 * auxiliary method that existentially quantifies the variables of a cube 
+	 * in a node
+	 * @param f - the node
+	 * @param cube - the cube of the quantified variables
+	 * @return the resulting node
+	 */
+	private int existsRec(int f, int cube) {
+		// skipping the cube's variables above the node's one, since the node
+		// doesn't depend on them
+		while (cube != 1 && level(cube) < level(f)) cube = getHigh(cube);
+		// terminal case: no variables left to quantify or a constant node
+		if (cube == 1 || f <= 1) return f;
+		// Return the node stated in the operation cache if there is one.
+		int computed = cache.lookup(EXISTS, f, cube);
+		if (computed >= 0) return computed;
+		int result;
+		if (level(cube) == level(f)) {
+			// quantifying the node's variable: disjunction of both results
+			int rest = getHigh(cube);
+			int high = existsRec(getHigh(f), rest);
+			// If the high result is 1, the low one doesn't matter.
+			result = (high == 1) ? 1 : 
+				ite(high, 1, existsRec(getLow(f), rest), null, 0);
+		}
+		else {
+			// keeping the node's variable
+			result = mkNode(getVar(f), existsRec(getHigh(f), cube), 
+					existsRec(getLow(f), cube));
+		}
+		// putting the resulting node into the operation cache
+		cache.insert(EXISTS, f, cube, result);
+		return result;
+	}
+
+
+	/**
+	 * universally quantifies the variables of a cube in a node, i.e. 
+	 * provides the conjunction of the node's cofactors for all assignments 
+	 * of those variables
+	 * (for all x: f = not (exists x: not f))
+	 * @param f - the node
+	 * @param cube - the cube of the quantified variables
+	 * @return the resulting node
+	 */
+	public int forall(int f, int cube) {
+		return exists(f ^ 1, cube) ^ 1;
+	}
+
+
+	/**
+	 * provides the cube of an assignment, i.e. the conjunction of the 
+	 * variables assigned one and the negations of the variables assigned zero
+	 * (Variables that aren't part of the VariableOrdering are ignored.)
+	 * @param assignment - each assigned variable's value
+	 * @return the cube's node
+	 */
+	public int cube(Map<Integer, Boolean> assignment) {
+		lock.readLock().lock();
+		try {
+			// adding the variables from the lowest level to the highest one
+			int cube = 1;
+			for (int level = order.length - 1; level >= 0; level--) {
+				Boolean value = assignment.get(order[level]);
+				// A variable assigned one has the 0-terminal as low child, a 
+				// variable assigned zero as high child.
+				if (value != null) cube = value ? 
+						mkNode(order[level], cube, 0) : 
+							mkNode(order[level], 0, cube);
+			}
+			return cube;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+
+	/**
+	 * restricts a node to an assignment, i.e. provides its cofactor for the 
+	 * assigned variables having their values
+	 * @param f - the node
+	 * @param cube - the assignment's cube
+	 * @return the resulting node
+	 */
+	public int restrict(int f, int cube) {
+		lock.readLock().lock();
+		try {
+			return restrictRec(f, cube);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+
+	/**
+	 * auxiliary method that restricts a node to an assignment
+	 * @param f - the node
+	 * @param cube - the assignment's cube
+	 * @return the resulting node
+	 */
+	private int restrictRec(int f, int cube) {
+		// skipping the assigned variables above the node's one, since the 
+		// node doesn't depend on them
+		while (cube != 1 && level(cube) < level(f)) cube = literalRest(cube);
+		// terminal case: no variables left to assign or a constant node
+		if (cube == 1 || f <= 1) return f;
+		// Return the node stated in the operation cache if there is one.
+		int computed = cache.lookup(RESTRICT, f, cube);
+		if (computed >= 0) return computed;
+		int result;
+		if (level(cube) == level(f)) {
+			// replacing the node by the child for the variable's value
+			int child = (getLow(cube) == 0) ? getHigh(f) : getLow(f);
+			result = restrictRec(child, literalRest(cube));
+		}
+		else {
+			// keeping the node's variable
+			result = mkNode(getVar(f), restrictRec(getHigh(f), cube), 
+					restrictRec(getLow(f), cube));
+		}
+		// putting the resulting node into the operation cache
+		cache.insert(RESTRICT, f, cube, result);
+		return result;
+	}
+
+
+	/**
+	 * substitutes a variable in a node by another node (functional 
+	 * composition)
+	 * @param f - the node
+	 * @param var - the substituted variable
+	 * @param g - the node the variable is substituted by
+	 * @return the resulting node
+	 */
+	public int compose(int f, int var, int g) {
+		lock.readLock().lock();
+		try {
+			return composeRec(f, var, g);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+
+	/**
+	 * auxiliary method that substitutes a variable in a node by another node
+	 * @param f - the node
+	 * @param var - the substituted variable
+	 * @param g - the node the variable is substituted by
+	 * @return the resulting node
+	 */
+	private int composeRec(int f, int var, int g) {
+		// If the variable isn't above the node's one or on its level, the 
+		// node doesn't depend on it.
+		if (var < 0 || var >= levels.length || levels[var] < 0 || 
+				levels[var] < level(f)) 
+			return f;
+		// Return the node stated in the operation cache if there is one.
+		int computed = cache.lookup(COMPOSE - var, f, g);
+		if (computed >= 0) return computed;
+		int result;
+		// if g then the high child else the low child
+		if (getVar(f) == var) result = ite(g, getHigh(f), getLow(f), null, 0);
+		// Otherwise the variable is substituted in both children, which are 
+		// combined by the node's variable. (Since g may depend on higher 
+		// variables, the children are combined by if-then-else.)
+		else result = ite(mkNode(getVar(f), 1, 0), 
+				composeRec(getHigh(f), var, g), 
+				composeRec(getLow(f), var, g), null, 0);
+		// putting the resulting node into the operation cache
+		cache.insert(COMPOSE - var, f, g, result);
+		return result;
+	}
+
+
+	/**
+	 * provides the relational product of two nodes, i.e. the existential 
+	 * quantification of the variables of a cube in the nodes' conjunction, 
+	 * quantifying during the conjunction, so the conjunction itself is never
+	 * constructed
+	 * @param f - the first node
+	 * @param g - the second node
+	 * @param cube - the cube of the quantified variables
+	 * @return the resulting node
+	 */
+	public int andExists(int f, int g, int cube) {
+		lock.readLock().lock();
+		try {
+			return andExistsRec(f, g, cube);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+
+	/**
+	 * auxiliary method that provides the relational product of two nodes
+	 * @param f - the first node
+	 * @param g - the second node
+	 * @param cube - the cube of the quantified variables
+	 * @return the resulting node
+	 */
+	private int andExistsRec(int f, int g, int cube) {
+		// terminal cases: contradicting or constant operands
+		if (f == 0 || g == 0 || f == (g ^ 1)) return 0;
+		if (f == 1 || f == g) return existsRec(g, cube);
+		if (g == 1) return existsRec(f, cube);
+		// normalizing the operands' order, so commuted calls share their 
+		// cache entries
+		if (f > g) {
+			int swap = f;
+			f = g;
+			g = swap;
+		}
+		// the top level of the two nodes
+		int topLevel = Math.min(level(f), level(g));
+		// skipping the cube's variables above the nodes' ones
+		while (cube != 1 && level(cube) < topLevel) cube = getHigh(cube);
+		// If there are no variables left to quantify, only the conjunction 
+		// remains.
+		if (cube == 1) return ite(f, g, 0, null, 0);
+		// Return the node stated in the operation cache if there is one.
+		int computed = andExistsCache.lookup(cube, f, g);
+		if (computed >= 0) return computed;
+		int result;
+		if (level(cube) == topLevel) {
+			// quantifying the top variable: disjunction of both results
+			int rest = getHigh(cube);
+			int high = andExistsRec(highCofactor(f, topLevel), 
+					highCofactor(g, topLevel), rest);
+			// If the high result is 1, the low one doesn't matter.
+			result = (high == 1) ? 1 : ite(high, 1, 
+					andExistsRec(lowCofactor(f, topLevel), 
+							lowCofactor(g, topLevel), rest), null, 0);
+		}
+		else {
+			// keeping the top variable
+			int topVar = (level(f) == topLevel) ? getVar(f) : getVar(g);
+			result = mkNode(topVar, 
+					andExistsRec(highCofactor(f, topLevel), 
+							highCofactor(g, topLevel), cube), 
+					andExistsRec(lowCofactor(f, topLevel), 
+							lowCofactor(g, topLevel), cube));
+		}
+		// putting the resulting node into the operation cache
+		andExistsCache.insert(cube, f, g, result);
+		return result;
+	}
+
+
+	/**
+	 * provides the exact number of satisfying assignments of a node's 
+	 * variables and all other variables of the VariableOrdering
+	 * @param f - the node
+	 * @return
+	 */
+	public BigInteger count(int f) {
+		lock.readLock().lock();
+		try {
+			// counting the assignments of the variables from the node's 
+			// level on and multiplying with the assignments of the variables 
+			// above
+			return countRec(f, new HashMap<Integer, BigInteger>())
+					.shiftLeft(depth(f));
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+
+	/**
+	 * provides the (approximate) number of satisfying assignments of all 
+	 * variables of the VariableOrdering as double
+	 * @param f - the node
+	 * @return the number; infinity if it's too large for a double
+	 */
+	public double countDouble(int f) {
+		lock.readLock().lock();
+		try {
+			// The fraction of satisfying assignments doesn't overflow, so 
+			// only the final number may be infinite.
+			return Math.scalb(countDoubleRec(f, 
+					new HashMap<Integer, Double>()), order.length);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+
+	/**
+	 * provides the binary logarithm of the number of satisfying assignments 
+	 * of all variables of the VariableOrdering
+	 * (This doesn't overflow for any number of variables.)
+	 * @param f - the node
+	 * @return the logarithm; negative infinity if there are none
+	 */
+	public double countLog2(int f) {
+		lock.readLock().lock();
+		try {
+			return countLog2Rec(f, new HashMap<Integer, Double>()) + depth(f);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+
+	/**
+	 * provides the probability that a node is satisfied by an assignment 
+	 * whose variables are independently assigned one with the given 
+	 * probabilities
+	 * @param f - the node
+	 * @param probabilities - each variable's probability of being assigned 
+	 * 		  one (0.5 for the variables that aren't given)
+	 * @return
+	 */
+	public double probability(int f, Map<Integer, Double> probabilities) {
+		lock.readLock().lock();
+		try {
+			return probabilityRec(f, levelProbabilities(probabilities), 
+					new HashMap<Integer, Double>());
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+
+	/**
+	 * provides each variable's probability of being assigned one under the 
+	 * condition that a node is satisfied, the variables being independently 
+	 * assigned one with the given probabilities otherwise
+	 * (The probability of the node is computed bottom-up first, then the 
+	 *  probability of reaching each node is passed down from the root.)
+	 * @param f - the node
+	 * @param probabilities - each variable's probability of being assigned 
+	 * 		  one (0.5 for the variables that aren't given)
+	 * @return the probabilities of all variables of the VariableOrdering; 
+	 * 		   null if the node can't be satisfied
+	 */
+	public HashMap<Integer, Double> marginals(int f, 
+			Map<Integer, Double> probabilities) {
+		lock.readLock().lock();
+		try {
+			double[] levelProbabilities = levelProbabilities(probabilities);
+			// the probabilities of the (regular) nodes being satisfied
+			HashMap<Integer, Double> satisfied = new HashMap<Integer, Double>();
+			double total = probabilityRec(f, levelProbabilities, satisfied);
+			if (total == 0) return null;
+			// listing the nodes (edges) below the node from top to bottom
+			HashMap<Integer, Double> reached = new HashMap<Integer, Double>();
+			reached.put(f, 1.0);
+			collectEdges(f, reached);
+			Integer[] edges = reached.keySet().toArray(new Integer[0]);
+			Arrays.sort(edges, new Comparator<Integer>() {
+				public int compare(Integer a, Integer b) {
+					return Integer.compare(depth(a), depth(b));
+				}
+			});
+			// the probability of each level's variable being assigned one and 
+			// the node being satisfied on the paths through the level's nodes
+			double[] ones = new double[order.length];
+			// the same probability on the paths skipping the levels (the 
+			// changes from each level to the next one, ignoring the 
+			// variables' probabilities)
+			double[] skipped = new double[order.length + 1];
+			// The levels above the node are skipped by all paths.
+			skipped[0] += total;
+			skipped[depth(f)] -= total;
+			// passing the probabilities of reaching the nodes down to the 
+			// children
+			for (int edge : edges) {
+				if (edge <= 1) continue;
+				int level = depth(edge);
+				double reach = reached.get(edge);
+				int high = getHigh(edge);
+				int low = getLow(edge);
+				// the probabilities of reaching the children through the node
+				double highReach = reach * levelProbabilities[level];
+				double lowReach = reach * (1 - levelProbabilities[level]);
+				reached.put(high, reached.get(high) + highReach);
+				reached.put(low, reached.get(low) + lowReach);
+				// the probabilities of the paths through the node satisfying it
+				double highMass = highReach * 
+						probabilityRec(high, levelProbabilities, satisfied);
+				double lowMass = lowReach * 
+						probabilityRec(low, levelProbabilities, satisfied);
+				ones[level] += highMass;
+				skipped[level + 1] += highMass + lowMass;
+				skipped[depth(high)] -= highMass;
+				skipped[depth(low)] -= lowMass;
+			}
+			// summing the changes up and dividing by the node's probability
+			HashMap<Integer, Double> marginals = new HashMap<Integer, Double>();
+			double skipping = 0;
+			for (int level = 0; level < order.length; level++) {
+				skipping += skipped[level];
+				marginals.put(order[level], (ones[level] + 
+						skipping * levelProbabilities[level]) / total);
+			}
+			return marginals;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+
+	/**
+	 * auxiliary method that provides the exact number of satisfying 
+	 * assignments of the variables from a node's level on, computing each 
+	 * node's number only once
+	 * @param f - the node
+	 * @param counts - the numbers of the nodes (indices) counted so far
+	 * @return
+	 */
+	BigInteger countRec(int f, HashMap<Integer, BigInteger> counts) {
+		// The 1-terminal has exactly one satisfying assignment: the empty one.
+		if (f <= 1) return (f == 1) ? BigInteger.ONE : BigInteger.ZERO;
+		// retrieving the regular node's number if it's been counted before
+		BigInteger count = counts.get(f >>> 1);
+		if (count == null) {
+			// the children of the regular node
+			int high = f & ~1;
+			int low = getLow(high);
+			high = getHigh(high);
+			// Satz 3.2.6: summing both children's numbers, multiplied with 
+			// the assignments of the variables skipped between the node and 
+			// the child
+			count = countRec(high, counts).shiftLeft(depth(high) - depth(f) - 1)
+					.add(countRec(low, counts)
+							.shiftLeft(depth(low) - depth(f) - 1));
+			counts.put(f >>> 1, count);
+		}
+		// A complemented node is satisfied by all other assignments.
+		if ((f & 1) != 0) count = BigInteger.ONE
+				.shiftLeft(order.length - depth(f)).subtract(count);
+		return count;
+	}
+
+
+	/**
+	 * auxiliary method that provides the fraction of all assignments that 
+	 * satisfy a node, computing each node's fraction only once
+	 * @param f - the node
+	 * @param fractions - the fractions of the nodes (indices) computed so far
+	 * @return
+	 */
+	private double countDoubleRec(int f, HashMap<Integer, Double> fractions) {
+		// The 1-terminal is satisfied by all assignments, the 0-terminal by 
+		// none.
+		if (f <= 1) return f;
+		// retrieving the regular node's fraction if it's been computed before
+		Double fraction = fractions.get(f >>> 1);
+		if (fraction == null) {
+			// the children of the regular node
+			int high = f & ~1;
+			int low = getLow(high);
+			high = getHigh(high);
+			// Each child is reached by half of the assignments. (Skipped 
+			// variables don't change the fractions.)
+			fraction = (countDoubleRec(high, fractions) + 
+					countDoubleRec(low, fractions)) / 2;
+			fractions.put(f >>> 1, fraction);
+		}
+		// A complemented node is satisfied by all other assignments.
+		if ((f & 1) != 0) return 1 - fraction;
+		return fraction;
+	}
+
+
+	/**
+	 * auxiliary method that provides the binary logarithm of the number of 
+	 * satisfying assignments of the variables from a node's level on, 
+	 * computing each node's logarithm only once
+	 * @param f - the node
+	 * @param counts - the logarithms of the nodes (indices) counted so far
+	 * @return
+	 */
+	private double countLog2Rec(int f, HashMap<Integer, Double> counts) {
+		// log 1 = 0, log 0 = negative infinity
+		if (f <= 1) return (f == 1) ? 0.0 : Double.NEGATIVE_INFINITY;
+		// retrieving the regular node's logarithm if it's been computed 
+		// before
+		Double count = counts.get(f >>> 1);
+		if (count == null) {
+			// the children of the regular node
+			int high = f & ~1;
+			int low = getLow(high);
+			high = getHigh(high);
+			// the logarithms of both summands
+			double highLog = countLog2Rec(high, counts) + 
+					(depth(high) - depth(f) - 1);
+			double lowLog = countLog2Rec(low, counts) + 
+					(depth(low) - depth(f) - 1);
+			// log(a + b) = max + log(1 + 2^(min - max))
+			double max = Math.max(highLog, lowLog);
+			double min = Math.min(highLog, lowLog);
+			count = (min == Double.NEGATIVE_INFINITY) ? max : 
+				max + Math.log1p(Math.pow(2, min - max)) / Math.log(2);
+			counts.put(f >>> 1, count);
+		}
+		// A complemented node is satisfied by all other assignments:
+		// log(2^n - c) = n + log(1 - 2^(log c - n))
+		if ((f & 1) != 0) {
+			int n = order.length - depth(f);
+			return n + Math.log1p(-Math.pow(2, count - n)) / Math.log(2);
+		}
+		return count;
+	}
+
+
+	/**
+	 * auxiliary method that provides the probability of a node being 
+	 * satisfied, computing each node's probability only once
+	 * @param f - the node
+	 * @param levelProbabilities - the probability of each level's variable 
+	 * 		  being assigned one
+	 * @param probabilities - the probabilities of the nodes (indices) 
+	 * 		  computed so far
+	 * @return
+	 */
+	private double probabilityRec(int f, double[] levelProbabilities, 
+			HashMap<Integer, Double> probabilities) {
+		if (f <= 1) return f;
+		// retrieving the regular node's probability if it's been computed 
+		// before
+		Double probability = probabilities.get(f >>> 1);
+		if (probability == null) {
+			// the children of the regular node
+			int high = f & ~1;
+			int low = getLow(high);
+			high = getHigh(high);
+			// weighting both children's probabilities with the ones of the 
+			// node's variable's values
+			// (The variables skipped in between don't matter.)
+			double p = levelProbabilities[depth(f)];
+			probability = p * probabilityRec(high, levelProbabilities, 
+					probabilities) + (1 - p) * probabilityRec(low, 
+							levelProbabilities, probabilities);
+			probabilities.put(f >>> 1, probability);
+		}
+		// A complemented node is satisfied with the other probability.
+		return ((f & 1) != 0) ? 1 - probability : probability;
+	}
+
+
+	/**
+	 * auxiliary method that collects all nodes (edges) below a node, each 
+	 * with the probability zero
+	 * @param f - the node
+	 * @param edges - the edges collected so far
+	 */
+	private void collectEdges(int f, HashMap<Integer, Double> edges) {
+		if (f <= 1) return;
+		for (int child : new int[] {getHigh(f), getLow(f)}) {
+			if (!edges.containsKey(child)) {
+				edges.put(child, 0.0);
+				collectEdges(child, edges);
+			}
+		}
+	}
+
+
+	/**
+	 * auxiliary function that provides each level's variable's probability 
+	 * of being assigned one
+	 * @param probabilities - each variable's probability (0.5 for the 
+	 * 		  variables that aren't given)
+	 * @return
+	 */
+	private double[] levelProbabilities(Map<Integer, Double> probabilities) {
+		double[] levelProbabilities = new double[order.length];
+		for (int level = 0; level < order.length; level++) {
+			Double probability = probabilities.get(order[level]);
+			levelProbabilities[level] = 
+					(probability == null) ? 0.5 : probability;
+		}
+		return levelProbabilities;
+	}
+
+
+	/**
+	 * auxiliary function that provides the number of variables above a node
+	 * @param f
+	 * @return the node's level; the number of variables for the terminals
+	 */
+	int depth(int f) {
+		return (f <= 1) ? order.length : levels[nodes.vars[f >>> 1]];
+	}
+
+
+	/**
+	 * auxiliary function that provides the rest of an assignment's cube 
+	 * below its first variable
+	 * @param cube
+	 * @return the child that isn't the 0-terminal
+	 */
+	private int literalRest(int cube) {
+		return (getLow(cube) == 0) ? getHigh(cube) : getLow(cube);
+	}
+
+
+	/**
+	 * auxiliary function that states whether a node comes before another one
+	 * in standard triples: if its level is higher or, for the same level, 
+	 * its index is lower
+	 * @param a
+	 * @param b
+	 * @return
+	 */
+	private boolean precedes(int a, int b) {
+		int aLevel = level(a);
+		int bLevel = level(b);
+		return aLevel < bLevel || (aLevel == bLevel && (a >>> 1) < (b >>> 1));
+	}
+
+
+	/**
+	 * auxiliary function that provides a node's cofactor for its variable 
+	 * being assigned one, if its variable is on the given level
+	 * @param node
+	 * @param level
+	 * @return the high child if the node is on the level; else the node
+	 */
+	private int highCofactor(int node, int level) {
+		return (level(node) == level) ? getHigh(node) : node;
+	}
+
+
+	/**
+	 * auxiliary function that provides a node's cofactor for its variable 
+	 * being assigned zero, if its variable is on the given level
+	 * @param node
+	 * @param level
+	 * @return the low child if the node is on the level; else the node
+	 */
+	private int lowCofactor(int node, int level) {
+		return (level(node) == level) ? getLow(node) : node;
+	}
+
+
+	/**
+	 * states whether the number of stored nodes has grown enough since the 
+	 * last garbage collection to collect garbage again
+	 * @return
+	 */
+	public synchronized boolean needsCollection() {
+		return liveSize() > 2 * Math.max(liveAfterCollection, 
+				MIN_COLLECTION_SIZE);
+	}
+
+
+	/**
+	 * removes all nodes that can't be reached from the given ones from the 
+	 * table, making their indices available for new nodes
+	 * (The operation caches are cleared since they may refer to removed 
+	 *  nodes. The collection waits until no other operation uses the table.)
+	 * @param roots - the edges of the nodes still in use
+	 * @return the number of removed nodes
+	 */
+	public int collectGarbage(int[] roots) {
+		lock.writeLock().lock();
+		try {
+			// The indices are freed under the table's monitor like they're 
+			// allocated.
+			synchronized (this) {
+				// marking the terminal and all nodes reachable from the roots
+				boolean[] marked = new boolean[size];
+				marked[0] = true;
+				for (int root : roots) mark(root >>> 1, marked);
+				// emptying the unique table's chains
+				Arrays.fill(buckets, END);
+				hashedSize = 0;
+				int mask = buckets.length - 1;
+				Nodes nodes = this.nodes;
+				// the number of removed nodes
+				int removed = 0;
+				for (int node = 1; node < size; node++) {
+					// skipping indices that have been freed before
+					if (nodes.vars[node] == FREE) continue;
+					if (!marked[node]) {
+						// freeing the index of an unmarked node (and forgetting 
+						// the OBDDs of its edges)
+						nodes.vars[node] = FREE;
+						obdds.remove(node << 1);
+						obdds.remove((node << 1) | 1);
+						nodes.next[node] = NOT_HASHED;
+						nodes.highs[node] = freeList;
+						freeList = node;
+						removed++;
+					}
+					else if (nodes.next[node] != NOT_HASHED) {
+						// putting a marked node of the unique table back into 
+						// its chain
+						int bucket = 
+								hash(nodes.vars[node], nodes.highs[node], 
+										nodes.lows[node]) & mask;
+						nodes.next[node] = buckets[bucket];
+						buckets[bucket] = node;
+						hashedSize++;
+					}
+				}
+				freeSize += removed;
+				liveAfterCollection = liveSize();
+				// clearing the operation caches
+				cache.clear();
+				andExistsCache.clear();
+				return removed;
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+
+	/**
+	 * auxiliary method that marks a node and all its descendants
+	 * @param node - the node's index
+	 * @param marked
+	 */
+	private void mark(int node, boolean[] marked) {
+		if (!marked[node]) {
+			marked[node] = true;
+			mark(nodes.highs[node] >>> 1, marked);
+			mark(nodes.lows[node] >>> 1, marked);
+		}
+	}
+
+
+	/**
+	 * auxiliary function that counts the nodes below an edge that haven't 
+	 * been counted yet, up to a limit
+	 * @param node - the edge
+	 * @param counted - the indices of the nodes counted before
+	 * @param limit
+	 * @return the number of nodes (not more than the limit)
+	 */
+	private int countNodes(int node, BitSet counted, int limit) {
+		int index = node >>> 1;
+		// The terminal isn't counted, and no node is counted twice.
+		if (limit <= 0 || index == 0 || counted.get(index)) return 0;
+		counted.set(index);
+		int count = 1 + countNodes(getHigh(node), counted, limit - 1);
+		return count + countNodes(getLow(node), counted, limit - count);
+	}
+
+
+	/**
+	 * states whether the number of nodes in the unique table has grown enough
+	 * since the last reordering to reorder the variables automatically
+	 * (Tables with other nodes, i.e. nodes of complete OBDDs or QOBDDs, 
+	 *  aren't reordered automatically, since sifting would reduce them. 
+	 *  Garbage should be collected first, so only the nodes in use are 
+	 *  counted.)
+	 * @return
+	 */
+	public synchronized boolean needsReordering() {
+		return manager.isAutoReordering() && hashedSize > reorderingSize && 
+				liveSize() - 1 == hashedSize;
+	}
+
+
+	/**
+	 * getter for the table's current VariableOrdering
+	 * @return
+	 */
+	public VariableOrdering getVarOrd() {
+		return varOrd;
+	}
+
+
+	/**
+	 * reorders the table's variables by sifting (Rudell): Each variable, 
+	 * starting with the one with the most nodes, is moved through all levels 
+	 * by swapping adjacent levels and is then put on the level where the 
+	 * table was smallest. The nodes are changed in place, so each edge still 
+	 * refers to the same function afterwards.
+	 * Afterwards the table belongs to the new VariableOrdering. If there 
+	 * already is a table for it, the given nodes are moved to that table.
+	 * (Swapping levels only keeps the nodes of the unique table, so the 
+	 *  roots are reduced first, i.e. the roots of complete OBDDs, QOBDDs and 
+	 *  partly reduced OBDDs are replaced by the roots of the equivalent 
+	 *  ROBDDs. Reordering waits until no other operation uses the table. 
+	 *  While the nodes are moved to another table, this table is only read, 
+	 *  so only the read locks of both tables are held then.)
+	 * @param roots - the edges of all nodes still in use (All other nodes are
+	 * 				  removed.)
+	 * @return the edges of the roots' ROBDDs in the table for the new 
+	 * 		   VariableOrdering
+	 */
+	public int[] sift(int[] roots) {
+		NodeTable existing;
+		lock.writeLock().lock();
+		try {
+			// The nodes change, so the OBDDs of the edges are out of date.
+			obdds.clear();
+			// replacing the roots by their ROBDDs' roots
+			roots = reduce(roots);
+			// removing all nodes that aren't in use, so the table's size is the 
+			// roots' size
+			collectGarbage(roots);
+			// listing each variable's nodes
+			final Sifting sifting = new Sifting(roots);
+			Integer[] siftOrder = new Integer[order.length];
+			for (int level = 0; level < order.length; level++) 
+				siftOrder[level] = order[level];
+			// sorting the variables by their number of nodes (largest first)
+			Arrays.sort(siftOrder, new Comparator<Integer>() {
+				@Override
+				public int compare(Integer a, Integer b) {
+					return sifting.varSizes[b] - sifting.varSizes[a];
+				}
+			});
+			// sifting each variable
+			for (int var : siftOrder) sifting.siftVariable(var);
+			// The cached results may refer to freed indices.
+			liveAfterCollection = liveSize();
+			cache.clear();
+			andExistsCache.clear();
+			// re-registering the table for its new VariableOrdering
+			VariableOrdering oldVarOrd = varOrd;
+			varOrd = new VariableOrdering(order);
+			// The next automatic reordering takes place once the unique table 
+			// has doubled its size.
+			reorderingSize = Math.max(2 * hashedSize, MIN_REORDERING_SIZE);
+			existing = manager.register(oldVarOrd, this);
+			if (existing == null) return roots;
+			// Otherwise the roots are moved to the existing table. Copying 
+			// only reads this table, so the write lock is downgraded to the 
+			// read lock before the other table's lock is taken.
+			// (Nobody can sift the other table into this one meanwhile, since
+			//  this table isn't registered anymore.)
+			lock.readLock().lock();
+		} finally {
+			lock.writeLock().unlock();
+		}
+		try {
+			// Copying creates nodes like the other table's operations do.
+			existing.lock.readLock().lock();
+			try {
+				return existing.copy(this, roots);
+			} finally {
+				existing.lock.readLock().unlock();
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+
+	/**
+	 * auxiliary method that replaces nodes by the equivalent nodes of the 
+	 * unique table
+	 * @param roots - the nodes' edges
+	 * @return the edges of the nodes' ROBDDs
+	 */
+	private int[] reduce(int[] roots) {
+		// the reduced nodes (edges) of the nodes (indices) reduced so far
+		HashMap<Integer, Integer> reduced = new HashMap<Integer, Integer>();
+		int[] reducedRoots = new int[roots.length];
+		for (int i = 0; i < roots.length; i++) 
+			reducedRoots[i] = reduceRec(roots[i], reduced);
+		return reducedRoots;
+	}
+
+
+	/**
+	 * auxiliary method that replaces a node and its descendants by the 
+	 * equivalent nodes of the unique table, reducing each node only once
+	 * (Nodes of the unique table may have descendants that aren't in it, so 
+	 *  all of them are reduced.)
+	 * @param node - the node's edge
+	 * @param reduced - the reduced nodes (edges) of the nodes (indices) 
+	 * 					reduced so far
+	 * @return the edge of the node's ROBDD
+	 */
+	private int reduceRec(int node, HashMap<Integer, Integer> reduced) {
+		// The terminals are already reduced.
+		if (node <= 1) return node;
+		int index = node >>> 1;
+		Integer result = reduced.get(index);
+		if (result == null) {
+			int high = reduceRec(nodes.highs[index], reduced);
+			int low = reduceRec(nodes.lows[index], reduced);
+			// mk removes redundant nodes and merges equivalent ones
+			result = mkNode(nodes.vars[index], high, low);
+			reduced.put(index, result);
+		}
+		// complementing the result if the edge is complemented
+		return result ^ (node & 1);
+	}
+
+
+	/**
+	 * auxiliary method that copies nodes of another table with the same 
+	 * VariableOrdering into this table
+	 * (The caller has to hold both tables' locks.)
+	 * @param other - the other table
+	 * @param roots - the nodes' edges in the other table
+	 * @return the nodes' edges in this table
+	 */
+	private int[] copy(NodeTable other, int[] roots) {
+		// the copies of the nodes copied so far
+		HashMap<Integer, Integer> copies = new HashMap<Integer, Integer>();
+		int[] copiedRoots = new int[roots.length];
+		for (int i = 0; i < roots.length; i++) 
+			copiedRoots[i] = copyRec(other, roots[i], copies);
+		return copiedRoots;
+	}
+
+
+	/**
+	 * auxiliary method that copies a node of another table and its 
+	 * descendants into this table, copying each node only once
+	 * @param other - the other table
+	 * @param node - the node's edge in the other table
+	 * @param copies - the copies (edges) of the nodes (indices) copied so far
+	 * @return the node's edge in this table
+	 */
+	private int copyRec(NodeTable other, int node, 
+			HashMap<Integer, Integer> copies) {
+		// The terminal is the same in both tables.
+		if (node <= 1) return node;
+		int index = node >>> 1;
+		Integer copy = copies.get(index);
+		if (copy == null) {
+			int high = copyRec(other, other.nodes.highs[index], copies);
+			int low = copyRec(other, other.nodes.lows[index], copies);
+			// Nodes that aren't in the other unique table aren't put into this
+			// one either.
+			copy = (other.nodes.next[index] == NOT_HASHED) ? 
+					newNode(other.nodes.vars[index], high, low, 
+							NOT_HASHED) << 1 : 
+						mkNode(other.nodes.vars[index], high, low);
+			copies.put(index, copy);
+		}
+		// complementing the copy if the edge is complemented
+		return copy ^ (node & 1);
+	}
+
+
+	/**
+	 * auxiliary function that searches the unique table for a node
+	 * (The caller has to hold the lock of the chain's stripe.)
+	 * @param var
+	 * @param high
+	 * @param low
+	 * @param hash - the node's hash value
+	 * @return the node's index; END if there is none
+	 */
+	private int find(int var, int high, int low, int hash) {
+		// the node's unique table chain
+		int[] buckets = this.buckets;
+		int bucket = hash & (buckets.length - 1);
+		// looking for a node with the same variable and children
+		Nodes nodes = this.nodes;
+		int[] vars = nodes.vars, highs = nodes.highs, lows = nodes.lows;
+		int[] next = nodes.next;
+		for (int node = buckets[bucket]; node != END; node = next[node]) {
+			if (vars[node] == var && highs[node] == high && lows[node] == low)
+				return node;
+		}
+		return END;
+	}
+
+
+	/**
+	 * auxiliary method that creates a new node and puts it at the front of 
+	 * its unique table chain
+	 * (There mustn't be a node with the same variable and children yet. The 
+	 *  caller has to hold the lock of the chain's stripe.)
+	 * @param var
+	 * @param high - the high child (regular)
+	 * @param low
+	 * @param hash - the node's hash value
+	 * @return the new node's index
+	 */
+	private int insert(int var, int high, int low, int hash) {
+		int bucket = hash & (buckets.length - 1);
+		int node = newNode(var, high, low, buckets[bucket]);
+		buckets[bucket] = node;
+		return node;
+	}
+
+
+	/**
+	 * auxiliary method that removes a node from its unique table chain
+	 * @param node - the node's index
+	 */
+	private void unlink(int node) {
+		Nodes nodes = this.nodes;
+		int bucket = hash(nodes.vars[node], nodes.highs[node], 
+				nodes.lows[node]) & (buckets.length - 1);
+		// The node is either the chain's first node or some node's successor.
+		if (buckets[bucket] == node) buckets[bucket] = nodes.next[node];
+		else {
+			int previous = buckets[bucket];
+			while (nodes.next[previous] != node) 
+				previous = nodes.next[previous];
+			nodes.next[previous] = nodes.next[node];
+		}
+		nodes.next[node] = NOT_HASHED;
+		hashedSize--;
+	}
+
+
+	/**
+	 * auxiliary method that removes a node of the unique table and frees its
+	 * index
+	 * @param node - the node's index
+	 */
+	private synchronized void freeNode(int node) {
+		unlink(node);
+		nodes.vars[node] = FREE;
+		nodes.highs[node] = freeList;
+		freeList = node;
+		freeSize++;
+	}
+
+
+	/**
+	 * auxiliary method that stores a new node in the arrays
+	 * (reusing a freed index if possible)
+	 * @param var
+	 * @param high
+	 * @param low
+	 * @param successor - the node's successor in its unique table chain 
+	 * 		  (NOT_HASHED for nodes that aren't put into the unique table)
+	 * @return the new node's index
+	 */
+	private synchronized int newNode(int var, int high, int low, 
+			int successor) {
+		// counting the nodes of the unique table
+		if (successor != NOT_HASHED) hashedSize++;
+		// reusing the first freed index if there is one
+		if (freeList != END) {
+			int node = freeList;
+			freeList = nodes.highs[node];
+			freeSize--;
+			nodes.vars[node] = var;
+			nodes.highs[node] = high;
+			nodes.lows[node] = low;
+			nodes.next[node] = successor;
+			return node;
+		}
+		// doubling the arrays' capacity if they're full
+		if (size == nodes.vars.length) 
+			nodes = new Nodes(nodes, 2 * size);
+		// storing the node
+		int node = size++;
+		nodes.vars[node] = var;
+		nodes.highs[node] = high;
+		nodes.lows[node] = low;
+		nodes.next[node] = successor;
+		return node;
+	}
+
+
+	/**
+	 * auxiliary method that replaces the operation caches by empty ones with
+	 * as many slots as the unique table has chains (but not more than the 
+	 * maximal number)
+	 */
+	void resizeCaches() {
+		int slots = Math.min(manager.getCacheSize(), buckets.length);
+		cache = new OperationCache(slots);
+		andExistsCache = new OperationCache(slots);
+	}
+
+
+	/**
+	 * auxiliary method that doubles the number of unique table chains and
+	 * redistributes the nodes
+	 * (All stripes are locked meanwhile, and the table's monitor, so no 
+	 *  node is created or looked up.)
+	 */
+	private void rehash() {
+		for (ReentrantLock stripeLock : stripeLocks) stripeLock.lock();
+		try {
+			synchronized (this) {
+				// Another thread may have doubled the chains already.
+				if (hashedSize <= buckets.length) return;
+				int[] newBuckets = new int[2 * buckets.length];
+				Arrays.fill(newBuckets, END);
+				int mask = newBuckets.length - 1;
+				Nodes nodes = this.nodes;
+				// putting each node of the unique table at the front of its 
+				// new chain
+				for (int node = 1; node < size; node++) {
+					if (nodes.next[node] != NOT_HASHED) {
+						int bucket = 
+								hash(nodes.vars[node], nodes.highs[node], 
+										nodes.lows[node]) & mask;
+						nodes.next[node] = newBuckets[bucket];
+						newBuckets[bucket] = node;
+					}
+				}
+				buckets = newBuckets;
+				// The operation caches grow with the unique table.
+				if (cache.size() < 
+						Math.min(manager.getCacheSize(), buckets.length)) 
+					resizeCaches();
+			}
+		} finally {
+			for (ReentrantLock stripeLock : stripeLocks) stripeLock.unlock();
+		}
+	}
+
+
+	/**
+	 * auxiliary function that provides a hash value for a node's triple
+	 * @param var
+	 * @param high
+	 * @param low
+	 * @return
+	 */
+	private static int hash(int var, int high, int low) {
+		// combining the three numbers by multiplying with large odd numbers
+		int h = var * 0x9E3779B1 + high * 0x85EBCA77 + low * 0xC2B2AE3D;
+		// spreading the higher bits over the lower ones
+		return h ^ (h >>> 16);
+	}
+
+
+
+	/**
+	 * the state of one sifting run: the nodes of each variable and the number
+	 * of references to each node, so swapping two levels only touches the 
+	 * nodes of these levels and frees the nodes that aren't in use anymore 
+	 * right away
+	 * (Sifting holds the table's write lock, and all nodes still in use are 
+	 *  nodes of the unique table.)
+	 */
+	private class Sifting {
+		/**
+		 * each node's number of references by other nodes and by the roots
+		 */
+		private int[] refs;
+		/**
+		 * each node's position in the list of its variable's nodes
+		 */
+		private int[] positions;
+		/**
+		 * each variable's nodes
+		 */
+		private final int[][] varNodes;
+		/**
+		 * each variable's number of nodes
+		 */
+		private final int[] varSizes;
+
+
+		/**
+		 * constructor for the state of a new sifting run
+		 * (All nodes have to be in use.)
+		 * @param roots - the edges of all nodes still in use
+		 */
+		private Sifting(int[] roots) {
+			refs = new int[nodes.vars.length];
+			positions = new int[nodes.vars.length];
+			varNodes = new int[levels.length][16];
+			varSizes = new int[levels.length];
+			// listing the nodes and counting the references to them
+			for (int node = 1; node < size; node++) {
+				if (nodes.vars[node] == FREE) continue;
+				list(node);
+				refs[nodes.highs[node] >>> 1]++;
+				refs[nodes.lows[node] >>> 1]++;
+			}
+			for (int root : roots) refs[root >>> 1]++;
+		}
+
+
+		/**
+		 * moves a variable through all levels and puts it on the level where
+		 * the table was smallest
+		 * @param var
+		 */
+		private void siftVariable(int var) {
+			// the variable's initial level
+			int startLevel = levels[var];
+			// the smallest size so far and its level
+			int bestSize = liveSize();
+			int bestLevel = startLevel;
+			// moving the variable down as long as the table doesn't grow too 
+			// much
+			while (levels[var] < order.length - 1) {
+				swap(levels[var]);
+				if (liveSize() < bestSize) {
+					bestSize = liveSize();
+					bestLevel = levels[var];
+				}
+				else if (liveSize() > MAX_GROWTH * bestSize) break;
+			}
+			// moving the variable back to its initial level
+			while (levels[var] > startLevel) swap(levels[var] - 1);
+			// moving the variable up as long as the table doesn't grow too 
+			// much
+			while (levels[var] > 0) {
+				swap(levels[var] - 1);
+				if (liveSize() < bestSize) {
+					bestSize = liveSize();
+					bestLevel = levels[var];
+				}
+				else if (liveSize() > MAX_GROWTH * bestSize) break;
+			}
+			// moving the variable to the best level
+			while (levels[var] < bestLevel) swap(levels[var]);
+			while (levels[var] > bestLevel) swap(levels[var] - 1);
+		}
+
+
+		/**
+		 * swaps the variables of a level and the level below: Each node of 
+		 * the upper variable with children of the lower variable is turned 
+		 * into a node of the lower variable, whose children are nodes of the
+		 * upper variable. The former children that aren't in use anymore are
+		 * freed.
+		 * @param level - the upper level
+		 */
+		private void swap(int level) {
+			// the upper and the lower variable
+			int x = order[level];
+			int y = order[level + 1];
+			// the upper variable's nodes
+			// (copied, since the list changes meanwhile)
+			int[] xNodes = Arrays.copyOf(varNodes[x], varSizes[x]);
+			for (int node : xNodes) {
+				int high = nodes.highs[node];
+				int low = nodes.lows[node];
+				// Nodes without children of the lower variable stay as they 
+				// are.
+				boolean highSplit = getVar(high) == y;
+				boolean lowSplit = getVar(low) == y;
+				if (!highSplit && !lowSplit) continue;
+				// the four grandchildren by means of both variables' values
+				int highHigh = highSplit ? getHigh(high) : high;
+				int highLow = highSplit ? getLow(high) : high;
+				int lowHigh = lowSplit ? getHigh(low) : low;
+				int lowLow = lowSplit ? getLow(low) : low;
+				// the new children of the upper variable
+				int newHigh = mk(x, highHigh, lowHigh);
+				int newLow = mk(x, highLow, lowLow);
+				// turning the node into a node of the lower variable
+				unlist(node);
+				unlink(node);
+				nodes.vars[node] = y;
+				nodes.highs[node] = newHigh;
+				nodes.lows[node] = newLow;
+				list(node);
+				// putting the node back into the unique table
+				// (Its function hasn't changed, so there is no equivalent 
+				//  node.)
+				int bucket = hash(y, newHigh, newLow) & (buckets.length - 1);
+				nodes.next[node] = buckets[bucket];
+				buckets[bucket] = node;
+				hashedSize++;
+				// The node doesn't refer to its former children anymore.
+				release(high);
+				release(low);
+			}
+			// swapping the two variables' levels
+			order[level] = y;
+			order[level + 1] = x;
+			levels[y] = level;
+			levels[x] = level + 1;
+		}
+
+
+		/**
+		 * provides the node with the given variable and children like mkNode,
+		 * listing it if it's new, and counts the reference to it
+		 * @param var
+		 * @param high
+		 * @param low
+		 * @return the (possibly shared) node's edge
+		 */
+		private int mk(int var, int high, int low) {
+			int liveSize = liveSize();
+			int node = mkNode(var, high, low);
+			// A new node refers to its children.
+			if (liveSize() > liveSize) {
+				int index = node >>> 1;
+				// The arrays grow with the node arrays.
+				if (index >= refs.length) {
+					refs = Arrays.copyOf(refs, nodes.vars.length);
+					positions = Arrays.copyOf(positions, nodes.vars.length);
+				}
+				refs[index] = 0;
+				list(index);
+				refs[high >>> 1]++;
+				refs[low >>> 1]++;
+			}
+			refs[node >>> 1]++;
+			return node;
+		}
+
+
+		/**
+		 * removes a reference to a node, freeing the node (and releasing its 
+		 * children) if it isn't in use anymore
+		 * @param node - the node's edge
+		 */
+		private void release(int node) {
+			int index = node >>> 1;
+			// The terminal is never freed.
+			if (index == 0 || --refs[index] > 0) return;
+			int high = nodes.highs[index];
+			int low = nodes.lows[index];
+			unlist(index);
+			freeNode(index);
+			release(high);
+			release(low);
+		}
+
+
+		/**
+		 * adds a node to the list of its variable's nodes
+		 * @param node - the node's index
+		 */
+		private void list(int node) {
+			int var = nodes.vars[node];
+			// doubling the list's capacity if it's full
+			if (varSizes[var] == varNodes[var].length) 
+				varNodes[var] = Arrays.copyOf(varNodes[var], 2 * varSizes[var]);
+			positions[node] = varSizes[var];
+			varNodes[var][varSizes[var]++] = node;
+		}
+
+
+		/**
+		 * removes a node from the list of its variable's nodes
+		 * @param node - the node's index
+		 */
+		private void unlist(int node) {
+			int var = nodes.vars[node];
+			// The list's last node takes the node's position.
+			int last = varNodes[var][--varSizes[var]];
+			varNodes[var][positions[node]] = last;
+			positions[last] = positions[node];
+		}
+	}
+
+
+	/**
+	 * the state shared by the tasks of one parallel apply algorithm
+	 * (The tasks only look nodes up in the node table. New nodes are kept in 
+	 *  stripes of their own, each locked separately, until they're put into 
+	 *  the node table after all tasks are done. Their edges are marked by the 
+	 *  sign bit.)
+	 */
+	private class ParallelContext {
+		/**
+		 * the sign bit marking the edges of new nodes
+		 */
+		private static final int NEW = Integer.MIN_VALUE;
+		/**
+		 * the maximal number of bits of a new node's index that select its 
+		 * stripe
+		 */
+		private static final int MAX_STRIPE_BITS = 8;
+		/**
+		 * the number of recursion levels in which separate tasks are created
+		 */
+		private final int parallelDepth = manager.getParallelDepth();
+		/**
+		 * the number of bits of a new node's index that select its stripe
+		 */
+		private final int stripeBits;
+		/**
+		 * the stripes of new nodes
+		 */
+		private final NodeStripe[] stripes;
+		/**
+		 * the operation cache for the results with new nodes
+		 * (The other results are put into the table's cache right away.)
+		 */
+		private final OperationCache newResults;
+
+
+		/**
+		 * constructor for the state of a new parallel algorithm
+		 * @param f - the first operand
+		 * @param g - the second operand
+		 */
+		private ParallelContext(int f, int g) {
+			// a few stripes for each thread of the pool, so the threads rarely
+			// wait for each other
+			stripeBits = Math.min(MAX_STRIPE_BITS, 32 - 
+					Integer.numberOfLeadingZeros(
+							4 * ForkJoinPool.getCommonPoolParallelism() - 1));
+			stripes = new NodeStripe[1 << stripeBits];
+			for (int stripe = 0; stripe < stripes.length; stripe++)
+				stripes[stripe] = new NodeStripe();
+			// as many cache slots as the operands have nodes (but not more 
+			// than the maximal number)
+			int maxSize = manager.getCacheSize();
+			BitSet counted = new BitSet();
+			int operandSize = countNodes(f, counted, maxSize);
+			operandSize += countNodes(g, counted, maxSize - operandSize);
+			newResults = new OperationCache(operandSize);
+		}
+
+
+		/**
+		 * provides the node with the given variable and children like the 
+		 * table's mk method, creating a new node only if there isn't one in 
+		 * the table or among the new nodes
+		 * @param var
+		 * @param high
+		 * @param low
+		 * @return the (possibly shared) node's edge
+		 */
+		private int mk(int var, int high, int low) {
+			// If both children are the same, the node would be redundant.
+			if (high == low) return high;
+			// Only nodes with a regular high edge are stored.
+			if ((high & 1) != 0) return mk(var, high ^ 1, low ^ 1) ^ 1;
+			int hash = hash(var, high, low);
+			// A node with a new child can't be in the table.
+			if (high >= 0 && low >= 0) {
+				int existing;
+				ReentrantLock stripeLock = stripeLocks[hash & (STRIPES - 1)];
+				stripeLock.lock();
+				try {
+					existing = find(var, high, low, hash);
+				} finally {
+					stripeLock.unlock();
+				}
+				if (existing != END) return existing << 1;
+			}
+			// looking for a new node with the same variable and children in 
+			// the stripe given by the lowest bits of its hash value
+			int stripe = hash & (stripes.length - 1);
+			int node = stripes[stripe].mk(var, high, low, hash >>> stripeBits);
+			return NEW | (((node << stripeBits) | stripe) << 1);
+		}
+
+
+		/**
+		 * searches the cache for the result of an if-then-else triple
+		 * @param f
+		 * @param g
+		 * @param h
+		 * @return the stored result; -1 if there is none
+		 */
+		private int lookup(int f, int g, int h) {
+			return newResults.lookup(h, f, g);
+		}
+
+
+		/**
+		 * stores the result of an if-then-else triple in the cache
+		 * @param f
+		 * @param g
+		 * @param h
+		 * @param result
+		 */
+		private void insert(int f, int g, int h, int result) {
+			newResults.insert(h, f, g, result);
+		}
+
+
+		/**
+		 * puts the new nodes below the algorithm's result into the node 
+		 * table, and the results with new nodes into the table's cache
+		 * @param edge - the result of the algorithm
+		 * @return the result's edge in the node table
+		 */
+		private int translate(int edge) {
+			// No new node has been put into the table yet.
+			for (NodeStripe stripe : stripes) {
+				stripe.edges = new int[stripe.size];
+				Arrays.fill(stripe.edges, END);
+			}
+			int result = translateRec(edge);
+			// Now the other threads can share the results with new nodes.
+			int[] entry = new int[4];
+			for (int slot = 0; slot < newResults.size(); slot++) {
+				if (newResults.read(slot, entry)) 
+					cache.insert(entry[0], entry[1], entry[2], 
+							translateRec(entry[3]));
+			}
+			return result;
+		}
+
+
+		/**
+		 * auxiliary method that puts the new nodes below an edge into the 
+		 * node table (each one after its children)
+		 * @param edge
+		 * @return the edge's counterpart in the node table
+		 */
+		private int translateRec(int edge) {
+			// A regular edge is already part of the table.
+			if (edge >= 0) return edge;
+			int node = (edge & ~NEW) >>> 1;
+			NodeStripe stripe = stripes[node & (stripes.length - 1)];
+			node >>>= stripeBits;
+			// putting the node into the table if that hasn't happened yet
+			// (Another thread may have created it in the meantime, so the 
+			//  unique table is consulted.)
+			if (stripe.edges[node] == END) {
+				stripe.edges[node] = mkNode(stripe.vars[node], 
+						translateRec(stripe.highs[node]), 
+						translateRec(stripe.lows[node]));
+			}
+			return stripe.edges[node] ^ (edge & 1);
+		}
+	}
+
+
+	/**
+	 * part of the new nodes of a parallel apply algorithm with a unique table
+	 * of its own
+	 */
+	private static class NodeStripe {
+		/**
+		 * each node's variable
+		 */
+		private int[] vars = new int[16];
+		/**
+		 * each node's high child edge
+		 */
+		private int[] highs = new int[16];
+		/**
+		 * each node's low child edge
+		 */
+		private int[] lows = new int[16];
+		/**
+		 * each node's hash value
+		 */
+		private int[] hashes = new int[16];
+		/**
+		 * each node's successor in its unique table chain
+		 */
+		private int[] next = new int[16];
+		/**
+		 * each node's edge in the node table once it's been put there 
+		 * (END before)
+		 */
+		private int[] edges;
+		/**
+		 * the first node of each unique table chain
+		 */
+		private int[] buckets = new int[16];
+		/**
+		 * the number of nodes
+		 */
+		private int size = 0;
+
+
+		/**
+		 * constructor for an empty stripe
+		 */
+		private NodeStripe() {
+			Arrays.fill(buckets, END);
+		}
+
+
+		/**
+		 * provides the stripe's node with the given variable and children, 
+		 * creating it if there is none
+		 * @param var
+		 * @param high
+		 * @param low
+		 * @param hash - the node's hash value
+		 * @return the node's index in the stripe
+		 */
+		private synchronized int mk(int var, int high, int low, int hash) {
+			int bucket = hash & (buckets.length - 1);
+			// looking for a node with the same variable and children
+			for (int node = buckets[bucket]; node != END; node = next[node]) {
+				if (vars[node] == var && highs[node] == high && 
+						lows[node] == low)
+					return node;
+			}
+			// doubling the arrays' capacity if they're full
+			if (size == vars.length) {
+				int capacity = 2 * vars.length;
+				vars = Arrays.copyOf(vars, capacity);
+				highs = Arrays.copyOf(highs, capacity);
+				lows = Arrays.copyOf(lows, capacity);
+				hashes = Arrays.copyOf(hashes, capacity);
+				next = Arrays.copyOf(next, capacity);
+				// redistributing the nodes over twice as many chains
+				buckets = new int[capacity];
+				Arrays.fill(buckets, END);
+				for (int node = 0; node < size; node++) {
+					int nodeBucket = hashes[node] & (capacity - 1);
+					next[node] = buckets[nodeBucket];
+					buckets[nodeBucket] = node;
+				}
+				bucket = hash & (capacity - 1);
+			}
+			// storing the node at the front of its chain
+			int node = size++;
+			vars[node] = var;
+			highs[node] = high;
+			lows[node] = low;
+			hashes[node] = hash;
+			next[node] = buckets[bucket];
+			buckets[bucket] = node;
+			return node;
+		}
+	}
+
+
+	/**
+	 * the node arrays, which are replaced together by larger copies
+	 */
+	private static class Nodes {
+		/**
+		 * each node's variable (-1 for the terminal)
+		 */
+		private final int[] vars;
+		/**
+		 * each node's high child edge
+		 * (never complemented for the nodes of the unique table)
+		 */
+		private final int[] highs;
+		/**
+		 * each node's low child edge
+		 */
+		private final int[] lows;
+		/**
+		 * each node's successor in its unique table chain
+		 * (NOT_HASHED for nodes that may be equivalent to other ones)
+		 */
+		private final int[] next;
+
+
+		/**
+		 * constructor for empty node arrays
+		 * @param capacity
+		 */
+		private Nodes(int capacity) {
+			vars = new int[capacity];
+			highs = new int[capacity];
+			lows = new int[capacity];
+			next = new int[capacity];
+		}
+
+
+		/**
+		 * constructor for larger copies of node arrays
+		 * @param nodes - the arrays to copy
+		 * @param capacity - the copies' capacity
+		 */
+		private Nodes(Nodes nodes, int capacity) {
+			vars = Arrays.copyOf(nodes.vars, capacity);
+			highs = Arrays.copyOf(nodes.highs, capacity);
+			lows = Arrays.copyOf(nodes.lows, capacity);
+			next = Arrays.copyOf(nodes.next, capacity);
+		}
+	}
+
+
+	/**
+	 * weak reference to the OBDD of an edge
+	 */
+	private static class ObddReference extends WeakReference<OBDD> {
+		/**
+		 * the edge
+		 */
+		private final int node;
+
+
+		/**
+		 * constructor for a reference
+		 * @param node - the edge
+		 * @param obdd - the edge's OBDD
+		 * @param queue - the queue the reference is put into once the OBDD 
+		 * 		  has been discarded
+		 */
+		private ObddReference(int node, OBDD obdd, 
+				ReferenceQueue<OBDD> queue) {
+			super(obdd, queue);
+			this.node = node;
+		}
+	}
+
+
+	/**
+	 * task of the parallel apply algorithm that computes an if-then-else 
+	 * triple
+	 */
+	private class IteTask extends RecursiveTask<Integer> {
+		/**
+		 * default serial version ID
+		 */
+		private static final long serialVersionUID = 1L;
+		/**
+		 * the triple
+		 */
+		private final int f, g, h;
+		/**
+		 * the context of the parallel algorithm
+		 */
+		private final ParallelContext context;
+		/**
+		 * the recursion level
+		 */
+		private final int depth;
+
+
+		/**
+		 * constructor for a task
+		 * @param f
+		 * @param g
+		 * @param h
+		 * @param context
+		 * @param depth
+		 */
+		private IteTask(int f, int g, int h, ParallelContext context, 
+				int depth) {
+			this.f = f;
+			this.g = g;
+			this.h = h;
+			this.context = context;
+			this.depth = depth;
+		}
+
+
+		/**
+		 * computes the triple's resulting node
+		 */
+		@Override
+		protected Integer compute() {
+			return ite(f, g, h, context, depth);
+		}
+	}
+}
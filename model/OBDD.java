@@ -1,9 +1,24 @@
 package model;
 
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * 
@@ -12,13 +27,12 @@ import java.util.List;
  */
 public class OBDD {
 	/**
-	 * identifier for OBDD nodes (usage in computed tables)
+	 * identifier for OBDD nodes (usage in computed tables): 
+	 * the node's edge in the node table of its VariableOrdering, i.e. its 
+	 * index shifted left by one bit, plus one for complemented nodes
+	 * (0 and 1 are the terminals (constants))
 	 */
 	private int id;
-	/**
-	 * counter for the identifiers (0 and 1 are the terminals (constants))
-	 */
-	private static int idCount = 2;
 	/**
 	 * boolean which determines whether the node is a terminal
 	 */
@@ -34,18 +48,34 @@ public class OBDD {
 	/**
 	 * HashMap for all of the OBDD's layers (except the terminal layer)
 	 * Each layer is identified by its nodes' variable.
-	 * Each layer is represented by a list of its nodes.
-	 * For reasons of performance this HashMap is only updated when it's used.
+	 * Each layer is represented by an array of its nodes.
+	 * (Since an OBDD's structure doesn't change, the HashMap is only built 
+	 *  once, when it's first used. It isn't changed afterwards and it's 
+	 *  volatile, so other threads either build their own one or see it 
+	 *  completely.)
+	 */
+	private volatile HashMap<Integer, OBDD[]> layers;
+	/**
+	 * index of all of the OBDD's nodes by their IDs
+	 * (Since an OBDD's structure doesn't change, the index is only built 
+	 *  once, when it's first used. Like the layers, it's volatile.)
+	 */
+	private volatile HashMap<Integer, OBDD> nodeIndex;
+	/**
+	 * the node table, if the node is one of its nodes (null for the 
+	 * terminals and the nodes created by consNew, whose children are given)
+	 * (A table's node only stores its edge, the children's OBDDs are created 
+	 *  when they're first used.)
 	 */
-	private HashMap<Integer,LinkedList<OBDD>> layers;
+	private NodeTable table;
 	/**
 	 * the (decision) node's high child
 	 */
-	private OBDD highChild;
+	private volatile OBDD highChild;
 	/**
 	 * the (decision) node's low child
 	 */
-	private OBDD lowChild;
+	private volatile OBDD lowChild;
 	/**
 	 * the node's (optional) name
 	 */
@@ -82,64 +112,6 @@ public class OBDD {
 	public static final int NAND = 14;
 	public static final int TAUTOLOGY = 15;
 	
-	/**
-	 * computed table for the getNode method
-	 */
-	private static HashMap<Integer,OBDD> getNodeCT = 
-			new HashMap<Integer,OBDD>();
-	
-	/**
-	 * computed table for the apply algorithm
-	 */
-	private static HashMap<Pair<Integer, Integer>, OBDD> applyCT = 
-			new HashMap<Pair<Integer, Integer>, OBDD>();
-	
-	/**
-	 * computed table for the negation algorithm
-	 */
-	private static HashMap<Integer,OBDD> negCT = 
-			new HashMap<Integer,OBDD>();
-	
-	/**
-	 * computed table for the toFormula method
-	 */
-	private static HashMap<Integer, Formula> formulaCT = 
-			new HashMap<Integer, Formula>();
-	
-	/**
-	 * computed table for the number algorithm
-	 */
-	private static HashMap<Integer, Integer> numberCT = 
-			new HashMap<Integer, Integer>();
-	
-	/**
-	 * computed table for the equivalence test
-	 */
-	private static HashMap<Pair<Integer, Integer>,Boolean> equivCT = 
-			new HashMap<Pair<Integer, Integer>,Boolean>();
-	
-	/**
-	 * list of variables assigned one for the satisfaction algorithm
-	 */
-	private static LinkedList<Integer> satAO = new LinkedList<Integer>();
-	
-	/**
-	 * boolean value for the satisfaction algorithm
-	 */
-	private static boolean satVal;
-	
-	/**
-	 * computed table for the merge method
-	 */
-	private static HashMap<Integer, OBDD> removeAndMergeCT = 
-			new HashMap<Integer, OBDD>();
-	
-	/**
-	 * computed table for the "allSat" algorithm
-	 */
-	private static HashMap<Integer, LinkedList<LinkedList<Integer>>> allSatCT =
-			new HashMap<Integer, LinkedList<LinkedList<Integer>>>();
-	
 	
 	
 	/**
@@ -177,51 +149,54 @@ public class OBDD {
 	
 	
 	/**
-	 * updates the node's layer HashMap and returns it
-	 * @param root - the OBDD's root
+	 * provides the OBDD's layer HashMap, building it if it hasn't been used 
+	 * yet
 	 * @return 
 	 */
-	public HashMap<Integer, LinkedList<OBDD>> updateLayers(OBDD root) {
-		// initializing the new layer HashMap
-		HashMap<Integer,LinkedList<OBDD>> layers =
-				new HashMap<Integer,LinkedList<OBDD>>();
-		// adding all of the OBBD's non-terminal nodes to the layer HashMap
-		layers = root.addToLayerHashMap(layers);
-		// saving the updated layer HashMap for this node
-		this.layers = layers;
-		return layers;
+	private HashMap<Integer, OBDD[]> layerIndex() {
+		HashMap<Integer, OBDD[]> layerIndex = layers;
+		if (layerIndex == null) {
+			// collecting the nodes of each layer
+			HashMap<Integer, ArrayList<OBDD>> layerLists = 
+					new HashMap<Integer, ArrayList<OBDD>>();
+			addToLayers(layerLists, Collections.newSetFromMap(
+					new IdentityHashMap<OBDD, Boolean>()));
+			// turning the layer lists into arrays
+			layerIndex = new HashMap<Integer, OBDD[]>();
+			for (int layerVar : layerLists.keySet()) {
+				layerIndex.put(layerVar, 
+						layerLists.get(layerVar).toArray(new OBDD[0]));
+			}
+			layers = layerIndex;
+		}
+		return layerIndex;
 	}
 	
 	
 	/**
-	 * adds the node to its respective layer in a layer HashMap and
-	 * lets it's children do the same if the node isn't a terminal 
-	 * @param layerMap
-	 * @return the updated layer HashMap
-	 */
-	private HashMap<Integer,LinkedList<OBDD>> 
-	addToLayerHashMap(HashMap<Integer,LinkedList<OBDD>> layerMap) {
-		// if the node is a terminal, nothing is done
-		if (!terminal) {
-			// retrieving this node's layer list
-			LinkedList<OBDD> layerList = layerMap.get(var);
-			// initializing an empty layer list, if there is none for this 
-			// node's layer
-			if (layerList == null) {
-				layerList = new LinkedList<OBDD>();
-			}
-			// adding the node to its layer list if it isn't already in
-			if(!layerList.contains(this)) {
-				layerList.add(this);
-			}
-			// putting the updated layer list into the layer HashMap
-			layerMap.put(var, layerList);
-			// recursively adding the high child
-			layerMap = highChild.addToLayerHashMap(layerMap);
-			// recursively adding the low child
-			layerMap = lowChild.addToLayerHashMap(layerMap);
+	 * adds the node to its respective layer list and lets it's children do 
+	 * the same if the node isn't a terminal or has been visited before
+	 * @param layerLists
+	 * @param visited - the nodes visited so far
+	 */
+	private void addToLayers(HashMap<Integer, ArrayList<OBDD>> layerLists, 
+			Set<OBDD> visited) {
+		// Terminals and visited nodes (and therefore the nodes below them) 
+		// aren't added.
+		if (terminal || !visited.add(this)) return;
+		// retrieving this node's layer list
+		ArrayList<OBDD> layerList = layerLists.get(var);
+		// initializing an empty layer list, if there is none for this 
+		// node's layer
+		if (layerList == null) {
+			layerList = new ArrayList<OBDD>();
+			layerLists.put(var, layerList);
 		}
-		return layerMap;
+		layerList.add(this);
+		// recursively adding the high child
+		getHighChild().addToLayers(layerLists, visited);
+		// recursively adding the low child
+		getLowChild().addToLayers(layerLists, visited);
 	}
 	
 	
@@ -254,12 +229,30 @@ public class OBDD {
 	
 	/**
 	 * getter for the OBDD's layer HashMap
+	 * (The lists are copies, so changing them doesn't change the OBDD's 
+	 *  layers.)
 	 * @return
 	 */
 	public HashMap<Integer, LinkedList<OBDD>> getLayers() {
-		// updating the layer HashMap first
-		updateLayers(this);
-		return layers;
+		HashMap<Integer, LinkedList<OBDD>> layerLists = 
+				new HashMap<Integer, LinkedList<OBDD>>();
+		HashMap<Integer, OBDD[]> layerIndex = layerIndex();
+		for (int layerVar : layerIndex.keySet()) {
+			layerLists.put(layerVar, new LinkedList<OBDD>(
+					Arrays.asList(layerIndex.get(layerVar))));
+		}
+		return layerLists;
+	}
+	
+	
+	/**
+	 * getter for one of the OBDD's layers
+	 * @param layerVar - the layer's variable
+	 * @return the layer's nodes (an empty array if there are none)
+	 */
+	public OBDD[] getLayer(int layerVar) {
+		OBDD[] layer = layerIndex().get(layerVar);
+		return (layer == null) ? new OBDD[0] : layer.clone();
 	}
 	
 	
@@ -268,6 +261,9 @@ public class OBDD {
 	 * @return
 	 */
 	public OBDD getHighChild() {
+		// A table's node creates its child's OBDD when it's first used.
+		if (highChild == null && table != null) 
+			highChild = fromTable(table, table.getHigh(id));
 		return highChild;
 	}
 	
@@ -277,6 +273,9 @@ public class OBDD {
 	 * @return
 	 */
 	public OBDD getLowChild() {
+		// A table's node creates its child's OBDD when it's first used.
+		if (lowChild == null && table != null) 
+			lowChild = fromTable(table, table.getLow(id));
 		return lowChild;
 	}
 	
@@ -292,47 +291,82 @@ public class OBDD {
 	
 	/**
 	 * method that finds a specific node in this entire OBDD (if possible)
+	 * by means of the OBDD's node index
 	 * @param id - the node's ID
 	 * @return the node, if it's found; else null
 	 */
 	public OBDD getNode(int id) {
-		if (getNodeCT.containsKey(this.id)) {
-			// If there is already a result for this node, it gets returned.
-			return getNodeCT.get(this.id);
-		}
-		// Otherwise a result for this node has to be found.
-		else {
-			// If the specified ID is a terminal's one, the terminal is 
-			// returned.
-			if (id == 0) return ZERO;
-			if (id == 1) return ONE;
-			// If this node has the specified ID, it is returned.
-			if (this.id == id) return this;
-			// Initializing a variable for the found node with null.
-			OBDD find = null;
-			if (!this.terminal) {
-				// If the node isn't the specified one and isn't a terminal, 
-				// first the high child gets called recursively.
-				find = highChild.getNode(id);
-				// If the high child's call didn't return a node, the low child
-				// gets called recursively.
-				if (find == null) find = lowChild.getNode(id);
-			}
-			// returning the find
-			return find;
+		// If the specified ID is a terminal's one, the terminal is returned.
+		if (id == 0) return ZERO;
+		if (id == 1) return ONE;
+		// building the node index if it hasn't been used yet
+		HashMap<Integer, OBDD> index = nodeIndex;
+		if (index == null) {
+			index = new HashMap<Integer, OBDD>();
+			addToNodeIndex(index);
+			nodeIndex = index;
 		}
+		return index.get(id);
 	}
 	
 	
 	/**
-	 * provides the cons algorithm without the possibility of choosing an ID
+	 * auxiliary method that adds this node and all nodes below it to a node 
+	 * index (the high child's nodes first)
+	 * @param index
+	 */
+	private void addToNodeIndex(HashMap<Integer, OBDD> index) {
+		if (terminal) return;
+		// Each node (and therefore all nodes below it) is only visited once.
+		OBDD indexed = index.get(id);
+		if (indexed == this) return;
+		// Of two versions of a node with the same ID, the first one found is 
+		// kept.
+		if (indexed == null) index.put(id, this);
+		getHighChild().addToNodeIndex(index);
+		getLowChild().addToNodeIndex(index);
+	}
+	
+	
+	/**
+	 * provides the cons algorithm for reduced OBDDs:
+	 * If this node and the given one are the same, this node is returned 
+	 * instead of a redundant node. If there already is a node with the given 
+	 * variable and children, that node is returned instead of a new one.
 	 * @param variable
 	 * @param lowChild
 	 * @param varOrd - the VariableOrdering
-	 * @return the new node
+	 * @return the (possibly shared) node; null if the variable isn't higher 
+	 * 		   than the children's ones
 	 */
 	public OBDD cons(int variable, OBDD lowChild, VariableOrdering varOrd) {
-		return cons(-1, variable, lowChild, varOrd);
+		// retrieving the VariableOrdering's node table
+		NodeTable table = NodeTable.forOrdering(varOrd);
+		// If the given variable isn't higher than the variables of both this 
+		// and the given node, the node can't be created.
+		if (!table.isAbove(variable, id) || !table.isAbove(variable, lowChild.id)) 
+			return null;
+		// retrieving the (possibly shared) node from the node table
+		int node = table.mk(variable, id, lowChild.id);
+		// If both children are the same, this node is returned.
+		if (node == id) return this;
+		// Otherwise the node table's (only) OBDD for the node is returned.
+		return fromTable(table, node);
+	}
+	
+	
+	/**
+	 * provides the cons algorithm without consulting the unique table and 
+	 * without the possibility of choosing an ID 
+	 * (used for complete OBDDs that may contain equivalent and redundant 
+	 *  nodes)
+	 * @param variable
+	 * @param lowChild
+	 * @param varOrd - the VariableOrdering
+	 * @return the new node
+	 */
+	public OBDD consNew(int variable, OBDD lowChild, VariableOrdering varOrd) {
+		return consNew(-1, variable, lowChild, varOrd);
 	}
 
 	
@@ -347,30 +381,20 @@ public class OBDD {
 	 * @param varOrd - the VariableOrdering
 	 * @return the new node
 	 */
-	private OBDD cons(int id, int variable, OBDD lowChild, VariableOrdering varOrd) {
-		// creating a VariableOrderingComparator for the VariableOrdering
-		VarOrdComparator complVarOrdComp = 
-				new VarOrdComparator(varOrd);
+	private OBDD consNew(int id, int variable, OBDD lowChild, 
+			VariableOrdering varOrd) {
+		// retrieving the VariableOrdering's node table
+		NodeTable table = NodeTable.forOrdering(varOrd);
 		// If the given variable is higher than the variables of both this and 
 		// the given node, the new node can be created.
-		if ((complVarOrdComp.compare(variable, var) > 0) && 
-				(complVarOrdComp.compare(variable, lowChild.var) > 0)) {
-			// initializing the new node
-			OBDD newNode = new OBDD();
-			// setting the new node's ID to the counter's current value and
-			// increasing it by one, if there is no adequate ID given
-			if (id < 2) newNode.id = idCount++;
-			// otherwise setting the new node's ID to the given one
-			else newNode.id = id;
-			// The new node isn't a terminal since it's created with children.
-			newNode.terminal = false;
-			// The given variable becomes the new node's one.
-			newNode.var = variable;
-			// This node becomes the new node's high child.
-			newNode.highChild = this;
-			// The given node becomes the new node's low child.
-			newNode.lowChild = lowChild;
-			return newNode;
+		if (table.isAbove(variable, this.id) && 
+				table.isAbove(variable, lowChild.id)) {
+			// adding a new node to the node table, if there is no adequate 
+			// ID given
+			if (id < 2) id = table.add(variable, this.id, lowChild.id);
+			// Otherwise the node with the given ID is a new version of an 
+			// existing, equivalent one, which stays in the node table.
+			return decisionNode(id, variable, this, lowChild);
 		} else {
 			// Otherwise the node can't be created.
 			return null;
@@ -379,354 +403,383 @@ public class OBDD {
 	
 	
 	/**
-	 * provides the apply algorithm and clears the computed table before
+	 * smart "constructor" for decision nodes
+	 * @param id
+	 * @param variable
+	 * @param highChild
+	 * @param lowChild
+	 * @return the decision node
+	 */
+	private static OBDD decisionNode(int id, int variable, OBDD highChild, 
+			OBDD lowChild) {
+		// initializing the new node
+		OBDD newNode = new OBDD();
+		newNode.id = id;
+		// The new node isn't a terminal since it's created with children.
+		newNode.terminal = false;
+		newNode.var = variable;
+		newNode.highChild = highChild;
+		newNode.lowChild = lowChild;
+		return newNode;
+	}
+	
+	
+	/**
+	 * provides the OBDD induced by a node of a node table
+	 * (Each edge of a table has only one OBDD at a time, which is created 
+	 *  when it's first used and kept as long as it's referred to. It only 
+	 *  refers to the table's node, so its children's OBDDs are created on 
+	 *  demand as well.)
+	 * @param table - the node table
+	 * @param node - the node's edge
+	 * @return
+	 */
+	static OBDD fromTable(NodeTable table, int node) {
+		// The terminals already exist.
+		if (node == 0) return ZERO;
+		if (node == 1) return ONE;
+		// returning the edge's OBDD if it has already been created
+		OBDD tableNode = table.getObdd(node);
+		if (tableNode == null) {
+			// creating the OBDD without its children
+			tableNode = new OBDD();
+			tableNode.id = node;
+			tableNode.terminal = false;
+			tableNode.var = table.getVar(node);
+			tableNode.table = table;
+			// Another thread may have created the edge's OBDD meanwhile.
+			tableNode = table.putObdd(node, tableNode);
+		}
+		return tableNode;
+	}
+	
+	
+	/**
+	 * provides the apply algorithm
 	 * @param otherNode - the second OBDD to apply the operation on
 	 * @param op - the boolean operation
 	 * @param varOrd - the VariableOrdering (used for the cons operation)
 	 * @return
 	 */
 	public OBDD apply(OBDD otherNode, int op, VariableOrdering varOrd) {
-		// clearing the computed table
-		applyCT.clear();
-		// calling the actual (recursive) apply algorithm
-		return applyRec(otherNode, op, varOrd);
+		// retrieving the VariableOrdering's node table
+		NodeTable table = NodeTable.forOrdering(varOrd);
+		// applying the operation on the two nodes in the node table
+		return fromTable(table, table.apply(id, otherNode.id, op));
 	}
 	
 	
 	/**
-	 * applies a boolean operation on two OBDDs
-	 * (3.5.4)
+	 * provides the apply algorithm, computing the cofactors in parallel 
+	 * (see NodeTable.parallelApply)
 	 * @param otherNode - the second OBDD to apply the operation on
 	 * @param op - the boolean operation
-	 * @param varOrd - the VariableOrdering (used for the cons operation and 
-	 * 					for comparing the two nodes' variables)
-	 * @return the resulting OBDD
+	 * @param varOrd - the VariableOrdering
+	 * @return the same OBDD as the (sequential) apply algorithm
 	 */
-	private OBDD applyRec(OBDD otherNode, int op, VariableOrdering varOrd) {
-		// If both OBDD nodes are terminals, the resulting terminal can be
-		// calculated by means of the boolean operation.
-		if (terminal && otherNode.terminal) {
-			// switch for the sixteen possible boolean operations
-			switch (op) {
-			// case 0
-			case CONTRADICTION:
-				// "applying" the contradiction: returning the 0-terminal
-				return ZERO;
-			// case 1
-			case AND:
-				// applying "and":
-				// returning the 1-terminal if both nodes are the 1-terminal,
-				// and otherwise the 0-terminal
-				return booleanToObdd(value && otherNode.value);
-			// case 2
-			case A_GREATER_THAN_B:
-				// applying "a greater than b":
-				// returning the 1-terminal if this node is the 1-terminal and
-				// the other one is the 0-terminal,
-				// and otherwise the 0-terminal
-				return booleanToObdd(value && !otherNode.value);
-			// case 3
-			case IDENTITY_OF_A:
-				// "applying" the "identity of a": returning this node
-				return this;
-			// case 4
-			case B_GREATER_THAN_A:
-				// applying "b greater than a":
-				// returning the 1-terminal if this node is the 0-terminal and 
-				// the other one is the 1-terminal,
-				// and otherwise the 0-terminal
-				return booleanToObdd(!value && otherNode.value);
-			// case 5
-			case IDENTITY_OF_B:
-				// "applying" the "identity of b": returning the other node
-				return otherNode;
-			// case 6
-			case XOR:
-				// applying "xor":
-				// returning the 1-terminal if one of the two nodes is the
-				// 1-terminal and the other one is the 0-terminal,
-				// and otherwise the 0-terminal
-				return booleanToObdd(value ^ otherNode.value);
-			// case 7
-			case OR:
-				// applying "or":
-				// returning the 1-terminal if at least one of the two nodes
-				// is the 1-terminal, and otherwise the 0-terminal
-				return booleanToObdd(value || otherNode.value);
-			// case 8
-			case NOR:
-				// applying "nor":
-				// returning the 1-terminal if none of the two nodes is the
-				// 1-terminal, and otherwise the 0-terminal
-				return booleanToObdd(!(value || otherNode.value));
-			// case 9
-			case EQUIVALENCE:
-				// applying "equivalence"
-				// return the 1-terminal if the two nodes are the same,
-				// and otherwise the 0-terminal
-				return booleanToObdd(value == otherNode.value);
-			// case 10
-			case NOT_B:
-				// applying "not b":
-				// returning the 1-terminal if b is the 0-terminal,
-				// and otherwise the 0-terminal
-				return booleanToObdd(!otherNode.value);
-			// case 11
-			case B_IMPLIES_A:
-				// applying "b implies a":
-				// returning the 1-terminal if this node is the 1-terminal or 
-				// the other one is the 0-terminal (or both),
-				// and otherwise the 0-terminal
-				return booleanToObdd(value || !otherNode.value);
-			// case 12
-			case NOT_A:
-				// applying "not a":
-				// returning the 1-terminal if this node is the 0-terminal,
-				// and otherwise the 0-terminal
-				return booleanToObdd(!value);
-			// case 13
-			case A_IMPLIES_B:
-				// applying "a implies b":
-				// returning the 1-terminal if this node is the 0-terminal
-				// or the other one is the 1-terminal (or both),
-				// and otherwise the 0-terminal
-				return booleanToObdd(!value || otherNode.value);
-			// case 14
-			case NAND:
-				// applying "nand":
-				// returning the 1-terminal if at least one of the two
-				// nodes is the 0-terminal, and otherwise the 0-terminal
-				return booleanToObdd(!(value && otherNode.value));
-			// case 15
-			case TAUTOLOGY:
-				 // "applying" the tautology: returning the 1-terminal
-				return ONE;
-			// Default case: None of the sixteen boolean operations was given.
-			default:
-				// tentative default value: null
-				return null;
-			}
-		}
-		// If neither OBDD node is a terminal, 
-		// first the computed table is checked.
-		else {
-			// initializing a pair of the two OBDD nodes
-			Pair<Integer, Integer> applyPair = 
-					new Pair<Integer, Integer>(id, otherNode.id);
-			// Return the OBDD stated for the two nodes in the computed table
-			// if there is one.
-			if (applyCT.containsKey(applyPair)) {
-				return applyCT.get(applyPair);
-			} else {
-				// If both nodes have the same variable,
-				// both nodes' children can be called recursively.
-				if (!terminal && !otherNode.terminal && var == otherNode.var) {
-					// applying the operation on the both nodes' high children
-					OBDD applyHighChildren = highChild.applyRec
-							(otherNode.highChild, op, varOrd);
-					// applying the operation on the both nodes' low children
-					OBDD applyLowChildren = 
-							lowChild.applyRec(otherNode.lowChild, op, varOrd);
-					// combining the two resulting nodes
-					OBDD newNode = 
-							applyHighChildren.cons
-							(var, applyLowChildren, varOrd);
-					// naming the new node
-					newNode.name = nameApplyNode(op, otherNode);
-					// putting the resulting node for the two nodes
-					// into the computed table
-					applyCT.put(applyPair, newNode);
-					// returning the node
-					return newNode;
-				}
-				else {
-					// creating a VariableOrderingComparator for the 
-					// VariableOrdering
-					VarOrdComparator complVarOrdComp = 
-							new VarOrdComparator(varOrd);
-					// If this OBDD node isn't a terminal and it's variable has
-					// a higher position in the variable ordering than the 
-					// other node's one, only this node's children are called 
-					// recursively (here).
-					if (!terminal && 
-							(complVarOrdComp.compare(var, otherNode.var) > 0))
-					{
-					// applying the operation on this node's high child
-					// and the other node
-					OBDD applyHighChild = 
-							highChild.applyRec(otherNode, op, varOrd);
-					// applying the operation on this node's low child
-					// and the other node
-					OBDD applyLowChild = 
-							lowChild.applyRec(otherNode, op, varOrd);
-					// combining the two resulting nodes
-					OBDD newNode = 
-							applyHighChild.cons(var, applyLowChild, varOrd);
-					// naming the new node
-					newNode.name = nameApplyNode(op, otherNode);
-					// putting the resulting node for the two nodes
-					// into the computed table
-					applyCT.put(applyPair, newNode);
-					// returning the node
-					return newNode;
-					}
-					// Otherwise the other node isn't a terminal and it's 
-					// variable has a higher position in the variable ordering 
-					// than this node's one. So only the other node's children 
-					// are called recursively (here).
-					else {
-						// applying the operation on this node
-						// and the other node's high child
-						OBDD applyHighChild = 
-								applyRec(otherNode.highChild, op, varOrd);
-						// applying the operation on this node
-						// and the other node's low child
-						OBDD applyLowChild = 
-								applyRec(otherNode.lowChild, op, varOrd);
-						// combining the two resulting nodes
-						OBDD newNode = applyHighChild.cons
-								(var, applyLowChild, varOrd);
-						// naming the new node
-						newNode.name = nameApplyNode(op, otherNode);
-						// putting the resulting node for the two nodes
-						// into the computed table
-						applyCT.put(applyPair, newNode);
-						// returning the node
-						return newNode;
-					}
-				}				
-			}
-		}
+	public OBDD parallelApply(OBDD otherNode, int op, VariableOrdering varOrd) {
+		// retrieving the VariableOrdering's node table
+		NodeTable table = NodeTable.forOrdering(varOrd);
+		// applying the operation on the two nodes in the node table
+		return fromTable(table, table.parallelApply(id, otherNode.id, op));
 	}
 	
 	
 	/**
-	 * auxiliary function that "turns" a boolean into an OBDD
-	 * @param bool
-	 * @return the corresponding terminal
+	 * provides the if-then-else operation with this OBDD as condition
+	 * @param thenObdd - the OBDD for the condition being fulfilled
+	 * @param elseObdd - the OBDD for the condition not being fulfilled
+	 * @param varOrd - the VariableOrdering
+	 * @return the OBDD representing "if this then thenObdd else elseObdd"
 	 */
-	private OBDD booleanToObdd(boolean bool) {
-		if (bool) {
-			return ONE;
-		} else return ZERO;
+	public OBDD ite(OBDD thenObdd, OBDD elseObdd, VariableOrdering varOrd) {
+		// retrieving the VariableOrdering's node table
+		NodeTable table = NodeTable.forOrdering(varOrd);
+		// applying the if-then-else operation on the three nodes
+		return fromTable(table, table.ite(id, thenObdd.id, elseObdd.id));
 	}
-
+	
 	
 	/**
-	 * method that provides names for nodes created via the Apply method
-	 * @param op
-	 * @param otherNode
+	 * provides the existential quantification of a set of variables
+	 * @param varSet - the quantified variables
+	 * @param varOrd - the VariableOrdering
+	 * @return the OBDD representing "there are values for the variables, so 
+	 * 		   that this OBDD is fulfilled"
+	 */
+	public OBDD exists(Collection<Integer> varSet, VariableOrdering varOrd) {
+		// retrieving the VariableOrdering's node table
+		NodeTable table = NodeTable.forOrdering(varOrd);
+		// quantifying the variables' cube in the node table
+		return fromTable(table, table.exists(id, table.cube(varSet)));
+	}
+	
+	
+	/**
+	 * provides the universal quantification of a set of variables
+	 * @param varSet - the quantified variables
+	 * @param varOrd - the VariableOrdering
+	 * @return the OBDD representing "for all values of the variables this 
+	 * 		   OBDD is fulfilled"
+	 */
+	public OBDD forall(Collection<Integer> varSet, VariableOrdering varOrd) {
+		// retrieving the VariableOrdering's node table
+		NodeTable table = NodeTable.forOrdering(varOrd);
+		// quantifying the variables' cube in the node table
+		return fromTable(table, table.forall(id, table.cube(varSet)));
+	}
+	
+	
+	/**
+	 * provides the relational product: the existential quantification of a 
+	 * set of variables in the conjunction of this OBDD and another one 
+	 * (without constructing the conjunction)
+	 * @param otherNode - the second OBDD
+	 * @param varSet - the quantified variables
+	 * @param varOrd - the VariableOrdering
 	 * @return
 	 */
-	private String nameApplyNode(int op, OBDD otherNode) {
-		// stating the use of the Apply method
-		String applyName = "Apply(";
-		// a switch for all possible binary operations to add the used one to 
-		// the String
-		switch(op) {
-		case CONTRADICTION:
-			applyName += "0";
-		case AND:
-			applyName += "A * B";
-		case A_GREATER_THAN_B:
-			applyName += "A > B";
-		case IDENTITY_OF_A:
-			applyName += "A";
-		case B_GREATER_THAN_A:
-			applyName += "A < B";
-		case IDENTITY_OF_B:
-			applyName += "B";
-		case XOR:
-			applyName += "A ^ B";
-		case OR:
-			applyName += "A + B";
-		case NOR:
-			applyName += "-(A + B)";
-		case EQUIVALENCE:
-			applyName += "A = B";
-		case NOT_B:
-			applyName += "-B";
-		case B_IMPLIES_A:
-			applyName += "A <- B";
-		case NOT_A:
-			applyName += "-A";
-		case A_IMPLIES_B:
-			applyName += "a -> B";
-		case NAND:
-			applyName += "-(A * B)";
-		case TAUTOLOGY:
-			applyName += "1";
-		default:
-			// If none of the possible binary operations was given, nothing is 
-			// added.
-		}
-		// adding the other parameters of the Apply method: the two nodes
-		applyName += "," + name + "," + otherNode.name + ")";
-		// returning the complete String
-		return applyName;
+	public OBDD andExists(OBDD otherNode, Collection<Integer> varSet, 
+			VariableOrdering varOrd) {
+		// retrieving the VariableOrdering's node table
+		NodeTable table = NodeTable.forOrdering(varOrd);
+		// computing the relational product in the node table
+		return fromTable(table, 
+				table.andExists(id, otherNode.id, table.cube(varSet)));
 	}
 	
 	
 	/**
-	 * provides the negation algorithm on OBDDs
-	 * and clears the computed table before
+	 * provides the restriction of a variable to a value, i.e. this OBDD's 
+	 * cofactor for the variable being assigned the value
+	 * @param variable
+	 * @param value
 	 * @param varOrd - the VariableOrdering
 	 * @return
 	 */
-	public OBDD negate(VariableOrdering varOrd) {
-		// clearing the computed table
-		negCT.clear();
-		// calling the actual (recursive) negate algorithm
-		return negateRec(varOrd);
+	public OBDD restrict(int variable, boolean value, 
+			VariableOrdering varOrd) {
+		// creating the assignment of the single variable
+		HashMap<Integer, Boolean> assignment = new HashMap<Integer, Boolean>();
+		assignment.put(variable, value);
+		return restrict(assignment, varOrd);
 	}
 	
 	
 	/**
-	 * negates an OBDD
-	 * (3.4.5)
-	 * @param varOrd - the VariableOrdering (used for the cons operation)
-	 * @return the negated OBDD
+	 * provides the restriction of several variables to values, i.e. this 
+	 * OBDD's cofactor for the variables being assigned the values
+	 * @param assignment - each assigned variable's value
+	 * @param varOrd - the VariableOrdering
+	 * @return
 	 */
-	private OBDD negateRec(VariableOrdering varOrd) {
-		// If the node is a terminal, it's negation is the opposite terminal.
-		if (terminal) {
-			return booleanToObdd(!value);
-		}
-		else {
-			// Return the OBDD stated for this node in the computed table 
-			// (if there is one).
-			if (negCT.containsKey(id)) {
-				return negCT.get(id);
-			} else {
-				// negating the high child
-				OBDD negHC = highChild.negateRec(varOrd);
-				// negating the low child
-				OBDD negLC = lowChild.negateRec(varOrd);
-				// combining the two negated children
-				OBDD neg = negHC.cons(var, negLC, varOrd);
-				// putting the negated node into the computed table
-				negCT.put(id, neg);
-				// returning the negated node
-				return neg;
+	public OBDD restrict(Map<Integer, Boolean> assignment, 
+			VariableOrdering varOrd) {
+		// retrieving the VariableOrdering's node table
+		NodeTable table = NodeTable.forOrdering(varOrd);
+		// restricting the node to the assignment's cube in the node table
+		return fromTable(table, table.restrict(id, table.cube(assignment)));
+	}
+	
+	
+	/**
+	 * provides the functional composition: the substitution of a variable by
+	 * another OBDD
+	 * @param variable - the substituted variable
+	 * @param otherNode - the OBDD the variable is substituted by
+	 * @param varOrd - the VariableOrdering
+	 * @return
+	 */
+	public OBDD compose(int variable, OBDD otherNode, 
+			VariableOrdering varOrd) {
+		// retrieving the VariableOrdering's node table
+		NodeTable table = NodeTable.forOrdering(varOrd);
+		// substituting the variable in the node table
+		return fromTable(table, table.compose(id, variable, otherNode.id));
+	}
+	
+	
+	/**
+	 * collects the garbage of the node table belonging to a VariableOrdering:
+	 * All nodes that aren't part of one of the given OBDDs are removed from 
+	 * the table, and their IDs are reused for new nodes.
+	 * @param varOrd - the VariableOrdering
+	 * @param roots - all OBDDs with that VariableOrdering that are still in 
+	 * 				  use
+	 * @return the number of removed nodes
+	 */
+	public static int collectGarbage(VariableOrdering varOrd, 
+			Collection<OBDD> roots) {
+		// the set of nodes already visited
+		Set<OBDD> visited = 
+				Collections.newSetFromMap(new IdentityHashMap<OBDD, Boolean>());
+		// the IDs of all decision nodes of the given OBDDs 
+		// (Different versions of a node may have the same ID but different 
+		//  children, so the nodes are identified by reference here.)
+		LinkedList<Integer> ids = new LinkedList<Integer>();
+		// the nodes still to be visited
+		LinkedList<OBDD> stack = new LinkedList<OBDD>(roots);
+		while (!stack.isEmpty()) {
+			OBDD node = stack.pop();
+			if (!node.terminal && visited.add(node)) {
+				ids.add(node.id);
+				// The nodes below a table's node are found by the table 
+				// itself.
+				if (node.table != null) continue;
+				stack.push(node.getHighChild());
+				stack.push(node.getLowChild());
 			}
 		}
+		// turning the ID list into an array
+		int[] rootIds = new int[ids.size()];
+		int i = 0;
+		for (int id : ids) rootIds[i++] = id;
+		// collecting the node table's garbage
+		return NodeTable.forOrdering(varOrd).collectGarbage(rootIds);
+	}
+	
+	
+	/**
+	 * states whether the node table belonging to a VariableOrdering has grown 
+	 * enough since its last garbage collection to collect garbage again
+	 * @param varOrd
+	 * @return
+	 */
+	public static boolean needsGarbageCollection(VariableOrdering varOrd) {
+		return NodeTable.forOrdering(varOrd).needsCollection();
 	}
 	
 	
 	/**
-	 * provides the satisfaction algorithm and 
-	 * clears the assignment and the value before
+	 * reorders the variables of the node table belonging to a VariableOrdering
+	 * by sifting, which may reduce the OBDDs' sizes considerably
+	 * (All nodes that aren't part of one of the given OBDDs are removed from 
+	 *  the table.)
+	 * @param varOrd - the VariableOrdering
+	 * @param roots - all OBDDs with that VariableOrdering that are still in 
+	 * 				  use (Each of them is replaced by the equivalent ROBDD 
+	 * 				  with the new VariableOrdering, so complete OBDDs, QOBDDs
+	 * 				  and partly reduced OBDDs get reduced. Other OBDDs with 
+	 * 				  the old VariableOrdering mustn't be used afterwards.)
+	 * @return the new VariableOrdering
+	 */
+	public static VariableOrdering sift(VariableOrdering varOrd, 
+			List<OBDD> roots) {
+		NodeTable table = NodeTable.forOrdering(varOrd);
+		// retrieving the roots' edges
+		// (The nodes of OBDDs that aren't the table's own ones may differ 
+		//  from the table's nodes with their IDs, e.g. after merging, so 
+		//  their edges are built from their actual children.)
+		IdentityHashMap<OBDD, Integer> edges = 
+				new IdentityHashMap<OBDD, Integer>();
+		int[] rootIds = new int[roots.size()];
+		int i = 0;
+		for (OBDD root : roots) rootIds[i++] = root.toTable(table, edges);
+		// sifting the node table's variables
+		rootIds = table.sift(rootIds);
+		VariableOrdering newVarOrd = table.getVarOrd();
+		// The roots may have been moved to another table.
+		table = NodeTable.forOrdering(newVarOrd);
+		// replacing the roots by the OBDDs induced by their nodes
+		ListIterator<OBDD> iter = roots.listIterator();
+		for (int rootId : rootIds) {
+			iter.next();
+			iter.set(fromTable(table, rootId));
+		}
+		return newVarOrd;
+	}
+	
+	
+	/**
+	 * auxiliary method that provides the edge of the table's node that is 
+	 * equivalent to this OBDD, building each node only once
+	 * @param table - the node table of the OBDD's VariableOrdering
+	 * @param edges - the edges of the nodes built so far
+	 * @return
+	 */
+	private int toTable(NodeTable table, 
+			IdentityHashMap<OBDD, Integer> edges) {
+		// The terminals and the table's own OBDDs already have their edges.
+		if (terminal || this.table == table) return id;
+		Integer edge = edges.get(this);
+		if (edge == null) {
+			edge = table.mk(var, getHighChild().toTable(table, edges), 
+					getLowChild().toTable(table, edges));
+			edges.put(this, edge);
+		}
+		return edge;
+	}
+	
+	
+	/**
+	 * states whether the node table belonging to a VariableOrdering has grown 
+	 * enough since its last reordering to reorder its variables automatically
+	 * @param varOrd
+	 * @return
+	 */
+	public static boolean needsReordering(VariableOrdering varOrd) {
+		return NodeTable.forOrdering(varOrd).needsReordering();
+	}
+	
+	
+	/**
+	 * enables or disables the automatic reordering of the variables
+	 * @param enabled
+	 */
+	public static void setAutoReordering(boolean enabled) {
+		BddManager.getDefault().setAutoReordering(enabled);
+	}
+	
+	
+	/**
+	 * sets the maximal number of slots of the operation caches used by the 
+	 * node table operations (discarding all cached results)
+	 * @param size - the number of slots (rounded up to a power of two)
+	 */
+	public static void setCacheSize(int size) {
+		BddManager.getDefault().setCacheSize(size);
+	}
+	
+	
+	/**
+	 * sets the number of recursion levels in which the parallel apply 
+	 * algorithm computes the cofactors in separate tasks
+	 * @param depth
+	 */
+	public static void setParallelDepth(int depth) {
+		BddManager.getDefault().setParallelDepth(depth);
+	}
+	
+	
+	/**
+	 * provides the negation algorithm on OBDDs
+	 * (The negation is the OBDD of the node's complemented edge, which shares
+	 *  the node table's nodes. Its children's OBDDs are only created when 
+	 *  they're used, so it takes constant time.)
+	 * @param varOrd - the VariableOrdering
+	 * @return
+	 */
+	public OBDD negate(VariableOrdering varOrd) {
+		// retrieving the node table (the node's own one, if it's a table's 
+		// node)
+		NodeTable nodeTable = 
+				(table != null) ? table : NodeTable.forOrdering(varOrd);
+		// negating the node in the node table
+		return fromTable(nodeTable, nodeTable.negate(id));
+	}
+	
+	
+	/**
+	 * provides the satisfaction algorithm with an empty assignment
 	 * @return
 	 */
 	public LinkedList<Integer> satisfy() {
-		// clearing the assignment and the value
-		satAO.clear();
-		satVal = false;
+		// the assignment (list of variables assigned one)
+		LinkedList<Integer> satAO = new LinkedList<Integer>();
 		// calling the actual (recursive) satisfy algorithm
-		satisfyRec();
-		// If the value is one, the assignment currently stored in satAO
-		// is a satisfying one and therefore returned.
-		if (satVal) {
+		// If the value is one, the assignment stored in satAO is a 
+		// satisfying one and therefore returned.
+		if (satisfyRec(satAO)) {
 			return satAO;
 		} else {
 			// tentative value: null
@@ -738,11 +791,13 @@ public class OBDD {
 	/**
 	 * provides a satisfying assignment for this OBDD (if possible)
 	 * (3.2.3)
+	 * @param satAO - the list of variables assigned one so far
+	 * @return the value of the assignment
 	 */
-	private void satisfyRec() {
+	private boolean satisfyRec(LinkedList<Integer> satAO) {
 		// If the node is a terminal, it's value is returned.
 		if (terminal) {
-			satVal = value;
+			return value;
 		} else {
 			// First the node's variable is assigned one
 			if (!satAO.contains(var)) {
@@ -750,36 +805,34 @@ public class OBDD {
 				satAO.add(var);
 			}
 			// The search continues from the high child on.
-			this.highChild.satisfyRec();
-			if (!satVal) {
-				// If the current assignment isn't a satisfying one,
-				// zero is tested for this node's variable.
-				satAO.removeFirstOccurrence(var);
-				// The search then continues from the low child on.
-				lowChild.satisfyRec();
-			}
+			if (getHighChild().satisfyRec(satAO)) return true;
+			// If the current assignment isn't a satisfying one,
+			// zero is tested for this node's variable.
+			satAO.removeFirstOccurrence(var);
+			// The search then continues from the low child on.
+			return getLowChild().satisfyRec(satAO);
 		}
 	}
 	
 	
 	/**
-	 * provides the toFormula method and clears the computed table before
+	 * provides the toFormula method with an empty computed table
 	 * @return
 	 */
 	public Formula toFormula() {
-		// clearing the computed table
-		formulaCT.clear();
 		// calling the actual (recursive) toFormula method
-		Formula result = toFormulaRec();
+		Formula result = toFormulaRec(new HashMap<Integer, Formula>());
 		// returning the result
 		return result;
 	}
 	
 	
 	/**
+	 * @param formulaCT - computed table: the Formulas of the nodes visited 
+	 * 		  so far
 	 * @return the Formula represented by the OBDD 
 	 */
-	private Formula toFormulaRec() {
+	private Formula toFormulaRec(HashMap<Integer, Formula> formulaCT) {
 		// In the case of a terminal, a constant Formula is constructed.
 		if (terminal) {
 			if (value) {
@@ -803,10 +856,10 @@ public class OBDD {
 				Formula xn = new Formula(var);
 				// Formula represented by the OBDD induced by the node's 
 				// high child
-				Formula hcFormula = highChild.toFormulaRec();
+				Formula hcFormula = getHighChild().toFormulaRec(formulaCT);
 				// Formula represented by the OBDD induced by the node's 
 				// low child
-				Formula lcFormula = lowChild.toFormulaRec();
+				Formula lcFormula = getLowChild().toFormulaRec(formulaCT);
 				// the left half of the Shannon expansion
 				Formula shannonLeft = xn.and(hcFormula);
 				// the right half of the Shannon expansion
@@ -869,12 +922,14 @@ public class OBDD {
 				// from the list.
 				assignedOne.removeFirst();
 				// Then the high child gets to continue the calculation.
-				return highChild.valueByObddRec(assignedOne, complVarOrdComp);
+				return getHighChild().valueByObddRec(assignedOne, 
+						complVarOrdComp);
 			}
 			else {
 				// Otherwise the node's variable is assigned zero and therefore
 				// the low child gets to continue the calculation.
-				return lowChild.valueByObddRec(assignedOne, complVarOrdComp);
+				return getLowChild().valueByObddRec(assignedOne, 
+						complVarOrdComp);
 			}
 		}
 	}
@@ -893,67 +948,78 @@ public class OBDD {
 
 	
 	/**
-	 * provides the number algorithm and clears the computed table before
+	 * provides the number of satisfying assignments of all variables of the 
+	 * VariableOrdering
 	 * @param varOrd - the VariableOrdering
 	 * @return
+	 * @throws ArithmeticException if the number doesn't fit into an int 
+	 * 		   (see count)
 	 */
 	public int number(VariableOrdering varOrd) {
-		// clearing the computed table
-		numberCT.clear();
-		// calling the actual (recursive) number algorithm
-		return numberRec(varOrd);
+		return count(varOrd).intValueExact();
 	}
 	
 	
 	/**
-	 * provides the number of satisfying assignments for the OBDD
-	 * @param varOrd - the VariableOrdering (used for considering the missing 
-	 * 					layers on each path)
-	 * @return the number of satisfying assignments
+	 * provides the exact number of satisfying assignments of all variables 
+	 * of the VariableOrdering
+	 * @param varOrd - the VariableOrdering
+	 * @return
 	 */
-	private int numberRec(VariableOrdering varOrd) {
-		// If the node is a terminal, the number of satisfying assignments can
-		// easily be returned.
-		if (terminal) {
-			if (value) {
-				// The 1-terminal has exactly one satisfying assignment: the
-				// empty one.
-				return 1;
-			}
-			else {
-				// The 0-terminal doesn't have any satisfying assignments.
-				return 0;
-			}
-		}
-		else {
-			// Return the number stated for this node in the computed table
-			// (if there is one).
-			if (numberCT.containsKey(id)) {
-				return numberCT.get(id);
-			}
-			// Otherwise the number of satisfying assignments is calculated by 
-			// summing the numbers of satisfying assignments for both children.
-			else {
-				// position of this node's variable in the variable ordering
-				int varPos = varOrd.indexOf(var);
-				// position of the high child's variable in the variable ordering
-				// (The variable ordering has to be the same in the entire OBDD.)
-				int hcVarPos = varOrd.indexOf(highChild.var);
-				// position of the low child's variable in the variable ordering
-				int lcVarPos = varOrd.indexOf(lowChild.var);
-				// the high child's number of satisfying assignments 
-				int hcNumber = highChild.numberRec(varOrd);
-				// the low child's number of satisfying assignments
-				int lcNumber = lowChild.numberRec(varOrd);
-				// Satz 3.2.6
-				int number = (int) ((hcNumber * Math.pow(2, hcVarPos - varPos) 
-						+ lcNumber * Math.pow(2, lcVarPos - varPos)) / 2);
-				// putting the number for this node into the computed table
-				numberCT.put(id, number);
-				// returning the number
-				return number;
-			}
-		}
+	public BigInteger count(VariableOrdering varOrd) {
+		return NodeTable.forOrdering(varOrd).count(id);
+	}
+	
+	
+	/**
+	 * provides the (approximate) number of satisfying assignments of all 
+	 * variables of the VariableOrdering as double
+	 * @param varOrd - the VariableOrdering
+	 * @return
+	 */
+	public double countDouble(VariableOrdering varOrd) {
+		return NodeTable.forOrdering(varOrd).countDouble(id);
+	}
+	
+	
+	/**
+	 * provides the binary logarithm of the number of satisfying assignments 
+	 * of all variables of the VariableOrdering
+	 * @param varOrd - the VariableOrdering
+	 * @return the logarithm; negative infinity if there are none
+	 */
+	public double countLog2(VariableOrdering varOrd) {
+		return NodeTable.forOrdering(varOrd).countLog2(id);
+	}
+	
+	
+	/**
+	 * provides the probability that the OBDD is satisfied by an assignment 
+	 * whose variables are independently assigned one with the given 
+	 * probabilities
+	 * @param probabilities - each variable's probability of being assigned 
+	 * 		  one (0.5 for the variables that aren't given)
+	 * @param varOrd - the VariableOrdering
+	 * @return
+	 */
+	public double probability(Map<Integer, Double> probabilities, 
+			VariableOrdering varOrd) {
+		return NodeTable.forOrdering(varOrd).probability(id, probabilities);
+	}
+	
+	
+	/**
+	 * provides each variable's probability of being assigned one under the 
+	 * condition that the OBDD is satisfied (see probability)
+	 * @param probabilities - each variable's probability of being assigned 
+	 * 		  one (0.5 for the variables that aren't given)
+	 * @param varOrd - the VariableOrdering
+	 * @return the probabilities of all variables of the VariableOrdering; 
+	 * 		   null if the OBDD can't be satisfied
+	 */
+	public HashMap<Integer, Double> marginals(
+			Map<Integer, Double> probabilities, VariableOrdering varOrd) {
+		return NodeTable.forOrdering(varOrd).marginals(id, probabilities);
 	}
 	
 	
@@ -962,42 +1028,56 @@ public class OBDD {
 	 * @return a list with two equivalent nodes in the OBDD if possible
 	 */
 	public LinkedList<OBDD> findAnyEquivalent(VariableOrdering varOrd) {
-		// updating the layer HashMap
-		updateLayers(this);
-		// initializing the list for the equivalent nodes
+		// retrieving all classes of equivalent nodes
+		LinkedList<LinkedList<OBDD>> equivClasses = 
+				findEquivalenceClasses(varOrd);
+		// At this point there are no equivalent nodes.
+		if (equivClasses.isEmpty()) return null;
+		// returning the list with the first two nodes of the highest class
 		LinkedList<OBDD> candidates = new LinkedList<OBDD>();
-		// initializing the list of the current layer's nodes
-		// which are possibly equivalent to another one
-		LinkedList<OBDD> residualLayerList;
-		// trying to find equivalent nodes in each layer individually
+		candidates.add(equivClasses.getFirst().get(0));
+		candidates.add(equivClasses.getFirst().get(1));
+		return candidates;
+	}
+	
+	
+	/**
+	 * method that provides all classes of (at least two) equivalent nodes in 
+	 * the entire OBDD in a single bottom-up pass: Each node's class is 
+	 * identified by its variable and its children's classes.
+	 * @param varOrd - the VariableOrdering
+	 * @return the classes, ordered by their layers (from top to bottom)
+	 */
+	public LinkedList<LinkedList<OBDD>> findEquivalenceClasses(
+			VariableOrdering varOrd) {
+		// computing each node's class
+		IdentityHashMap<OBDD, Integer> equivClasses = 
+				new IdentityHashMap<OBDD, Integer>();
+		equivalenceClass(equivClasses, 
+				new HashMap<Integer, HashMap<Long, Integer>>());
+		LinkedList<LinkedList<OBDD>> classLists = 
+				new LinkedList<LinkedList<OBDD>>();
+		// collecting each layer's classes
 		for (int var : varOrd.getOrdList()) {
-			// getting the current layer list
-			residualLayerList = layers.get(var);
-			// While there are two or more nodes in the layer list,
-			// they might be equivalent.
-			while (residualLayerList != null && residualLayerList.size()>=2) {
-				// moving the first node from the residual layer list
-				// to the candidate list
-				candidates.add(residualLayerList.removeFirst());
-				// checking for each node of the residual layer list
-				// whether it's equivalent to the first candidate node
-				for (OBDD secondCandidate : residualLayerList) {
-					// If the two nodes are equivalent,
-					// return the list with the two of them.
-					if (candidates.getFirst().isEquivalent(secondCandidate)) {
-						candidates.add(secondCandidate);
-						return candidates;
-					}
+			OBDD[] layer = layerIndex().get(var);
+			if (layer == null) continue;
+			// grouping the layer's nodes by their classes
+			LinkedHashMap<Integer, LinkedList<OBDD>> layerClasses = 
+					new LinkedHashMap<Integer, LinkedList<OBDD>>();
+			for (OBDD node : layer) {
+				LinkedList<OBDD> classList = 
+						layerClasses.get(equivClasses.get(node));
+				if (classList == null) {
+					classList = new LinkedList<OBDD>();
+					layerClasses.put(equivClasses.get(node), classList);
 				}
-				// clearing the candidate list
-				candidates.clear();
-				// If no equivalent node could be found for this one,
-				// check for other ones.
+				classList.add(node);
 			}
-			// otherwise checking other layers
+			// Only classes of at least two nodes contain equivalent nodes.
+			for (LinkedList<OBDD> classList : layerClasses.values()) 
+				if (classList.size() >= 2) classLists.add(classList);
 		}
-		// At this point there are no equivalent nodes.
-		return null;
+		return classLists;
 	}
 	
 	
@@ -1009,21 +1089,24 @@ public class OBDD {
 	 * null if there aren't any
 	 */
 	public LinkedList<OBDD> findEquivalent(OBDD root) {
-		// updating the layer HashMap
-		updateLayers(root);
 		// initializing the list of nodes equivalent to this node
 		LinkedList<OBDD> equivNodes = new LinkedList<OBDD>();
-		// the node's layer list
-		LinkedList<OBDD> layerList = layers.get(var);
-		// removing the node itself from the list
-		layerList.remove(this);
-		// iterator over the layer list
-		java.util.Iterator<OBDD> iter = layerList.iterator();
-		// checking each node in the layer list, whether it's equivalent to 
-		// this node
-		while (iter.hasNext()) {
-			OBDD currentNode = iter.next();
-			if (isEquivalent(currentNode)) equivNodes.add(currentNode);
+		// the node's layer in the OBDD
+		OBDD[] layer = root.layerIndex().get(var);
+		if (layer != null) {
+			// computing the classes of the OBDD's nodes
+			IdentityHashMap<OBDD, Integer> equivClasses = 
+					new IdentityHashMap<OBDD, Integer>();
+			HashMap<Integer, HashMap<Long, Integer>> signatures = 
+					new HashMap<Integer, HashMap<Long, Integer>>();
+			root.equivalenceClass(equivClasses, signatures);
+			int equivClass = equivalenceClass(equivClasses, signatures);
+			// collecting each other node of the layer in the same class
+			for (OBDD currentNode : layer) {
+				if (currentNode != this && 
+						equivClasses.get(currentNode) == equivClass) 
+					equivNodes.add(currentNode);
+			}
 		}
 		// returning null if there are no equivalent nodes
 		if (equivNodes.isEmpty()) return null; 
@@ -1033,53 +1116,92 @@ public class OBDD {
 	
 	
 	/**
-	 * provides the equivalence test and clears the computed table before
+	 * auxiliary method that provides the class of this node, i.e. a number 
+	 * that is the same for exactly the nodes equivalent to this one
+	 * @param equivClasses - the classes of the nodes visited so far
+	 * @param signatures - the classes found so far for each layer, 
+	 * 		  identified by their children's classes
+	 * @return
+	 */
+	private int equivalenceClass(IdentityHashMap<OBDD, Integer> equivClasses, 
+			HashMap<Integer, HashMap<Long, Integer>> signatures) {
+		// Terminals are only equivalent to themselves.
+		if (terminal) return id;
+		// returning the class if it has already been computed
+		Integer equivClass = equivClasses.get(this);
+		if (equivClass != null) return equivClass;
+		// retrieving the children's classes
+		int highClass = 
+				getHighChild().equivalenceClass(equivClasses, signatures);
+		int lowClass = 
+				getLowChild().equivalenceClass(equivClasses, signatures);
+		// retrieving the classes of the node's layer
+		HashMap<Long, Integer> layer = signatures.get(var);
+		if (layer == null) {
+			layer = new HashMap<Long, Integer>();
+			signatures.put(var, layer);
+		}
+		// packing the children's classes into the class's key
+		long key = ((long) highClass << 32) | (lowClass & 0xFFFFFFFFL);
+		equivClass = layer.get(key);
+		// If there is no class yet, the node gets a new one (the terminals' 
+		// IDs being the first two numbers).
+		if (equivClass == null) {
+			equivClass = equivClasses.size() + 2;
+			layer.put(key, equivClass);
+		}
+		equivClasses.put(this, equivClass);
+		return equivClass;
+	}
+	
+	
+	/**
+	 * provides the equivalence test with an empty computed table
 	 * @param otherNode
 	 * @return
 	 */
 	public boolean isEquivalent(OBDD otherNode) {
-		// clearing the computed table
-		equivCT.clear();
 		// calling the actual (recursive) equivalence test
-		return isEquivalentRec(otherNode);
+		return isEquivalentRec(otherNode, new HashMap<Long, Boolean>());
 	}
 	
 	
 	/**
 	 * @param otherNode
+	 * @param equivCT - computed table: the results for the pairs of nodes 
+	 * 		  (their IDs packed into one long) tested so far
 	 * @return whether another node is equivalent to this node
 	 */
-	private boolean isEquivalentRec(OBDD otherNode) {
+	private boolean isEquivalentRec(OBDD otherNode, 
+			HashMap<Long, Boolean> equivCT) {
 		// If at least one of the two nodes is a terminal,
 		// they aren't equivalent unless they're the same.
 		if (terminal || otherNode.terminal) {
 			return (id == otherNode.id);
 		}
 		else {
-			// initializing a pair of the two OBDDs' IDs
-			Pair<Integer, Integer> checkPair = 
-					new Pair<Integer, Integer>(id,otherNode.id);
 			// Return the value stated for the two nodes in the computed table
 			// if there is one.
-			if (equivCT.containsKey(checkPair)) {
-				return equivCT.get(checkPair);
-			} else {
-				// For equivalence the two high children have to be equivalent.
-				boolean equivalentHC =
-						highChild.isEquivalentRec(otherNode.highChild);
-				// For equivalence the two low children have to be equivalent.
-				boolean equivalentLC =
-						lowChild.isEquivalentRec(otherNode.lowChild);
-				// For equivalence the two variables have to be equivalent.
-				boolean equivalentVar = var == otherNode.var;
-				// combining all three criteria
-				boolean equivalent =
-						(equivalentHC && equivalentLC && equivalentVar);
-				// putting the value for the two nodes into the computed table
-				equivCT.put(checkPair, equivalent);
-				// finally returning the value
-				return equivalent;
-			}
+			long key = ((long) id << 32) | (otherNode.id & 0xFFFFFFFFL);
+			Boolean computed = equivCT.get(key);
+			if (computed != null) return computed;
+			// For equivalence the two high children have to be equivalent.
+			boolean equivalentHC =
+					getHighChild().isEquivalentRec(otherNode.getHighChild(), 
+							equivCT);
+			// For equivalence the two low children have to be equivalent.
+			boolean equivalentLC =
+					getLowChild().isEquivalentRec(otherNode.getLowChild(), 
+							equivCT);
+			// For equivalence the two variables have to be equivalent.
+			boolean equivalentVar = var == otherNode.var;
+			// combining all three criteria
+			boolean equivalent =
+					(equivalentHC && equivalentLC && equivalentVar);
+			// putting the value for the two nodes into the computed table
+			equivCT.put(key, equivalent);
+			// finally returning the value
+			return equivalent;
 		}
 	}
 	
@@ -1089,8 +1211,23 @@ public class OBDD {
 	 * @return a redundant node (if possible)
 	 */
 	public OBDD findRedundant() {
-		// If the node is a terminal, the search has failed.
-		if (terminal) {
+		// calling the actual (recursive) search with an empty set of visited 
+		// nodes
+		return findRedundantRec(Collections.newSetFromMap(
+				new IdentityHashMap<OBDD, Boolean>()));
+	}
+	
+	
+	/**
+	 * auxiliary method that searches a redundant node below this one, 
+	 * skipping the nodes visited before
+	 * @param visited - the nodes visited so far
+	 * @return a redundant node (if possible)
+	 */
+	private OBDD findRedundantRec(Set<OBDD> visited) {
+		// If the node is a terminal or has been visited before (so there is no
+		// redundant node below it), the search has failed.
+		if (terminal || !visited.add(this)) {
 			// tentative value: null
 			return null;
 		}
@@ -1103,12 +1240,12 @@ public class OBDD {
 		// children recursively.
 		else {
 			// trying to find a redundant node along the high child's paths
-			OBDD redundantFind = highChild.findRedundant();
+			OBDD redundantFind = getHighChild().findRedundantRec(visited);
 			// If the search along the high child's paths didn't provide a 
 			// redundant node, the search is continued along the low child's
 			// paths.
 			if ((redundantFind == null)) {
-				redundantFind = lowChild.findRedundant();
+				redundantFind = getLowChild().findRedundantRec(visited);
 			}
 			// returning the "find"
 			return redundantFind;
@@ -1116,6 +1253,37 @@ public class OBDD {
 	}
 	
 	
+	/**
+	 * provides all redundant nodes of this OBDD, visiting each node once
+	 * @return the redundant nodes (in the order of a depth-first search); an 
+	 * 		   empty list if there aren't any
+	 */
+	public LinkedList<OBDD> findAllRedundant() {
+		LinkedList<OBDD> redundantNodes = new LinkedList<OBDD>();
+		findAllRedundantRec(redundantNodes, Collections.newSetFromMap(
+				new IdentityHashMap<OBDD, Boolean>()));
+		return redundantNodes;
+	}
+	
+	
+	/**
+	 * auxiliary method that adds this node and all nodes below it to a list 
+	 * if they are redundant, skipping the nodes visited before
+	 * @param redundantNodes - the redundant nodes found so far
+	 * @param visited - the nodes visited so far
+	 */
+	private void findAllRedundantRec(LinkedList<OBDD> redundantNodes, 
+			Set<OBDD> visited) {
+		// Terminals and visited nodes (and therefore the nodes below them) 
+		// aren't searched.
+		if (terminal || !visited.add(this)) return;
+		if (isRedundant()) redundantNodes.add(this);
+		// recursively searching the children
+		getHighChild().findAllRedundantRec(redundantNodes, visited);
+		getLowChild().findAllRedundantRec(redundantNodes, visited);
+	}
+	
+	
 	/**
 	 * states whether the OBDD node is redundant
 	 * @return
@@ -1124,7 +1292,7 @@ public class OBDD {
 		// A terminal isn't redundant.
 		// A decision node is redundant, if it's children are the same 
 		// (which can be indicated by their IDs).
-		return !terminal && (highChild.id == lowChild.id);
+		return !terminal && (getHighChild().id == getLowChild().id);
 	}
 	
 	
@@ -1158,8 +1326,8 @@ public class OBDD {
 		// path.
 		// Otherwise the node's children are checked recursively.
 		return checkList.isEmpty() || (!terminal && (var == checkList.poll()) 
-				&& highChild.noVarMissing(checkList) 
-				&& lowChild.noVarMissing(checkList));
+				&& getHighChild().noVarMissing(checkList) 
+				&& getLowChild().noVarMissing(checkList));
 	}
 	
 	
@@ -1184,21 +1352,8 @@ public class OBDD {
 	 * @return the reduced (Q)OBDD
 	 */
 	public OBDD reduceQ(VariableOrdering varOrd) {
-		// initializing the reduced (Q)OBDD
-		OBDD qobdd = this;
-		// trying to find a pair of equivalent nodes in the new OBDD
-		LinkedList<OBDD> equivalentFind = qobdd.findAnyEquivalent(varOrd);
-		// While there are equivalent nodes in the OBDD, they have to be merged
-		// to create a QOBDD.
-		while(equivalentFind != null) {
-			// merging the two found equivalent nodes
-			qobdd = qobdd.merge(equivalentFind.poll(), equivalentFind.getFirst(), varOrd);
-			// searching for more equivalent nodes
-			equivalentFind = qobdd.findAnyEquivalent(varOrd);
-		}
-		// After adding all missing variables and merging all equivalent nodes,
-		// the new OBDD is a QOBDD.
-		return qobdd;
+		// merging all equivalent nodes in a single pass
+		return reduce(varOrd, false);
 	}
 	
 	
@@ -1228,12 +1383,12 @@ public class OBDD {
 		// recursively
 		else {
 			// constructing the high child with all missing variables added
-			OBDD highChildMVA = highChild.addMissingVars(varOrd, addList);
+			OBDD highChildMVA = getHighChild().addMissingVars(varOrd, addList);
 			// constructing the low child with all missing variables added
-			OBDD lowChildMVA = lowChild.addMissingVars(varOrd, addList);
+			OBDD lowChildMVA = getLowChild().addMissingVars(varOrd, addList);
 			// constructing this node with all missing variables added
 			thisMVA = 
-					highChildMVA.cons(var, lowChildMVA, varOrd);
+					highChildMVA.consNew(var, lowChildMVA, varOrd);
 		}
 		// If this node's variable isn't the current one, it is assumed
 		// that there are variables missing at this point.
@@ -1257,7 +1412,7 @@ public class OBDD {
 					.descendingIterator();
 			// for each gap variable adding a redundant node
 			while (iter.hasNext())
-				thisMVA = thisMVA.cons(iter.next(), thisMVA, varOrd);
+				thisMVA = thisMVA.consNew(iter.next(), thisMVA, varOrd);
 		}
 		// returning the resulting node
 		return thisMVA;
@@ -1271,23 +1426,80 @@ public class OBDD {
 	 * @return the ROBDD
 	 */
 	public OBDD reduceR(VariableOrdering varOrd) {
-		// initializing the ROBDD
-		OBDD robdd = this;
-		// merging all equivalent nodes by using the QOBDD reduction method
-		robdd = robdd.reduceQ(varOrd);
-		// trying to find a redundant node
-		OBDD redundantFind = robdd.findRedundant();
-		// while there are redundant nodes in the OBDD, they have to be removed 
-		// to create an ROBBD.
-		while (!(redundantFind == null)) {
-			// removing the found redundant node
-			robdd = robdd.remove(redundantFind, varOrd);
-			// searching for another redundant node
-			redundantFind = robdd.findRedundant();
+		// merging all equivalent nodes and removing all redundant ones in a 
+		// single pass
+		return reduce(varOrd, true);
+	}
+	
+	
+	/**
+	 * auxiliary method that reduces the OBDD in a single bottom-up pass 
+	 * (Bryant): Each node is replaced by the representative of its 
+	 * equivalence class, which is identified by the node's variable and its 
+	 * children's representatives. The first node found for each class is 
+	 * kept (with its ID), so the nodes' positions stay the same.
+	 * @param varOrd - the VariableOrdering
+	 * @param removeRedundant - boolean that states whether redundant nodes 
+	 * 		  are removed as well
+	 * @return the reduced OBDD
+	 */
+	private OBDD reduce(VariableOrdering varOrd, boolean removeRedundant) {
+		// calling the actual (recursive) algorithm
+		return reduceRec(varOrd, removeRedundant, 
+				new HashMap<Integer, HashMap<Long, OBDD>>(), 
+				new HashMap<Integer, OBDD>());
+	}
+	
+	
+	/**
+	 * auxiliary method that provides a node's representative in the reduced 
+	 * OBDD
+	 * @param varOrd - the VariableOrdering
+	 * @param removeRedundant
+	 * @param representatives - the representatives found so far for each 
+	 * 		  layer, identified by their children's IDs
+	 * @param removeAndMergeCT - computed table: the representatives of the 
+	 * 		  nodes visited so far
+	 * @return
+	 */
+	private OBDD reduceRec(VariableOrdering varOrd, boolean removeRedundant, 
+			HashMap<Integer, HashMap<Long, OBDD>> representatives, 
+			HashMap<Integer, OBDD> removeAndMergeCT) {
+		// Terminals are their own representatives.
+		if (terminal) return this;
+		// returning the representative if it has already been found
+		OBDD reduced = removeAndMergeCT.get(id);
+		if (reduced != null) return reduced;
+		// retrieving the children's representatives
+		OBDD reducedHigh = getHighChild().reduceRec(varOrd, removeRedundant, 
+				representatives, removeAndMergeCT);
+		OBDD reducedLow = getLowChild().reduceRec(varOrd, removeRedundant, 
+				representatives, removeAndMergeCT);
+		// A redundant node is represented by its child.
+		if (removeRedundant && reducedHigh.id == reducedLow.id) 
+			reduced = reducedHigh;
+		else {
+			// retrieving the representatives of the node's layer
+			HashMap<Long, OBDD> layer = representatives.get(var);
+			if (layer == null) {
+				layer = new HashMap<Long, OBDD>();
+				representatives.put(var, layer);
+			}
+			// packing the children's IDs into the equivalence class's key
+			long key = ((long) reducedHigh.id << 32) | 
+					(reducedLow.id & 0xFFFFFFFFL);
+			reduced = layer.get(key);
+			// If there is no representative yet, this node becomes the 
+			// representative (as a new version if its children have changed).
+			if (reduced == null) {
+				reduced = (reducedHigh == getHighChild() && 
+						reducedLow == getLowChild()) ?
+						this : reducedHigh.consNew(id, var, reducedLow, varOrd);
+				layer.put(key, reduced);
+			}
 		}
-		// After merging all equivalent nodes and removing all redundant ones, 
-		// the OBDD is an ROBDD.
-		return robdd;
+		removeAndMergeCT.put(id, reduced);
+		return reduced;
 	}
 	
 	
@@ -1298,14 +1510,25 @@ public class OBDD {
 	 * @return the resulting OBDD
 	 */
 	public OBDD remove(OBDD node, VariableOrdering varOrd) {
-		// clearing the computed table
-		removeAndMergeCT.clear();
-		// adding the node's high child to the computed table for the node 
-		// itself
-		removeAndMergeCT.put(node.id, node.highChild);
 		// returning the rebuilt OBDD
-		return rebuild(varOrd, new VarOrdComparator(varOrd), 
-				node.var);
+		return remove(Collections.singletonList(node), varOrd);
+	}
+	
+	
+	/**
+	 * removes any number of nodes from the OBDD, rebuilding it only once
+	 * (only accurate for redundant nodes)
+	 * @param nodes
+	 * @param varOrd
+	 * @return the resulting OBDD
+	 */
+	public OBDD remove(Collection<OBDD> nodes, VariableOrdering varOrd) {
+		// Each node is replaced by its (only) child, which may be removed 
+		// itself.
+		HashMap<OBDD, OBDD> replacements = new HashMap<OBDD, OBDD>();
+		for (OBDD node : nodes) replacements.put(node, node.getHighChild());
+		// returning the rebuilt OBDD
+		return replace(replacements, varOrd);
 	}
 	
 	
@@ -1319,31 +1542,88 @@ public class OBDD {
 	 */
 	public OBDD merge(OBDD firstNode, OBDD secondNode, 
 			VariableOrdering varOrd) {
-		// clearing the computed table
-		removeAndMergeCT.clear();
-		// putting the first node into the computed table for both itself and 
-		// the second node
-		removeAndMergeCT.put(firstNode.id, firstNode);
-		removeAndMergeCT.put(secondNode.id, firstNode);
+		// mapping the second node to the first one
+		HashMap<OBDD, OBDD> representatives = new HashMap<OBDD, OBDD>();
+		representatives.put(secondNode, firstNode);
 		// returning the rebuilt OBDD
-		return rebuild(varOrd, new VarOrdComparator(varOrd), 
-				firstNode.var);
+		return merge(representatives, varOrd);
 	}
 	
 	
 	/**
-	 * auxiliary method that "rebuilds" the OBDD after removing a node or 
-	 * merging two nodes
+	 * merges any number of nodes into their representatives, rebuilding the 
+	 * OBDD only once
+	 * (only accurate for nodes equivalent to their representatives)
+	 * @param representatives - mapping of each node to be merged to the node 
+	 * 		  it is merged into (e.g. each class of equivalent nodes to its 
+	 * 		  first node)
+	 * @param varOrd
+	 * @return the resulting OBDD
+	 */
+	public OBDD merge(Map<OBDD, OBDD> representatives, 
+			VariableOrdering varOrd) {
+		// returning the rebuilt OBDD
+		return replace(representatives, varOrd);
+	}
+	
+	
+	/**
+	 * auxiliary method that replaces any number of nodes by other nodes 
+	 * (their representatives or children), rebuilding the OBDD only once
+	 * @param replacements - mapping of each node to be replaced to its 
+	 * 		  replacement
+	 * @param varOrd
+	 * @return the rebuilt OBDD
+	 */
+	private OBDD replace(Map<OBDD, OBDD> replacements, 
+			VariableOrdering varOrd) {
+		// If there are no nodes to be replaced, the OBDD doesn't change.
+		if (replacements.isEmpty()) return this;
+		VarOrdComparator varOrdComp = new VarOrdComparator(varOrd);
+		// mapping the nodes' IDs to their replacements
+		HashMap<Integer, OBDD> replacementIds = new HashMap<Integer, OBDD>();
+		// the lowest variable of the replaced nodes: Nodes below its layer 
+		// don't change.
+		Integer mergeVar = null;
+		for (OBDD node : replacements.keySet()) {
+			replacementIds.put(node.id, replacements.get(node));
+			if (mergeVar == null || varOrdComp.compare(node.var, mergeVar) < 0)
+				mergeVar = node.var;
+		}
+		// returning the rebuilt OBDD
+		return rebuild(varOrd, varOrdComp, mergeVar, replacementIds, 
+				new HashMap<Integer, OBDD>());
+	}
+	
+	
+	/**
+	 * auxiliary method that "rebuilds" the OBDD after removing or merging 
+	 * nodes
 	 * @param varOrd - the variable ordering
 	 * @param varOrdComp - a variable ordering comparator
-	 * @param mergeVar - the variable of the changed node(s)
+	 * @param mergeVar - the lowest variable of the changed node(s)
+	 * @param replacements - the nodes (identified by their IDs) merged into 
+	 * 		  other nodes or removed and their replacements
+	 * @param removeAndMergeCT - computed table: the rebuilt versions of the 
+	 * 		  nodes visited so far
 	 * @return the rebuilt OBDD
 	 */
 	private OBDD rebuild(VariableOrdering varOrd, 
-			VarOrdComparator varOrdComp, int mergeVar) {
+			VarOrdComparator varOrdComp, int mergeVar, 
+			HashMap<Integer, OBDD> replacements, 
+			HashMap<Integer, OBDD> removeAndMergeCT) {
 		// If there is already a calculated result for this node, 
 		// it gets returned.
 		if (removeAndMergeCT.containsKey(id)) return removeAndMergeCT.get(id);
+		// A merged or removed node is replaced by the rebuilt version of its 
+		// replacement.
+		OBDD replacement = replacements.get(id);
+		if (replacement != null && replacement.id != id) {
+			OBDD rebuiltNode = replacement.rebuild(varOrd, varOrdComp, 
+					mergeVar, replacements, removeAndMergeCT);
+			removeAndMergeCT.put(id, rebuiltNode);
+			return rebuiltNode;
+		}
 		// If this node's variable is lower or equal to the one of the changed 
 		// node(s) relating to the variable ordering, it doesn't change.
 		else if (varOrdComp.compare(var, mergeVar) <= 0) {
@@ -1353,13 +1633,13 @@ public class OBDD {
 		// Otherwise the resulting node has to be calculated.
 		else {
 			// recursively calling the node's children
-			OBDD rebuiltHighChild = 
-					highChild.rebuild(varOrd, varOrdComp, mergeVar);
-			OBDD rebuiltLowChild = 
-					lowChild.rebuild(varOrd, varOrdComp, mergeVar);
+			OBDD rebuiltHighChild = getHighChild().rebuild(varOrd, varOrdComp, 
+					mergeVar, replacements, removeAndMergeCT);
+			OBDD rebuiltLowChild = getLowChild().rebuild(varOrd, varOrdComp, 
+					mergeVar, replacements, removeAndMergeCT);
 			// combining the two rebuilt children to a new version of this node
 			OBDD rebuiltNode = 
-					rebuiltHighChild.cons(id, var, rebuiltLowChild, varOrd);
+					rebuiltHighChild.consNew(id, var, rebuiltLowChild, varOrd);
 			removeAndMergeCT.put(id, rebuiltNode);
 			return rebuiltNode;
 		}
@@ -1367,133 +1647,117 @@ public class OBDD {
 	
 	
 	/**
-	 * provides the "allSat" algorithm and clears the computed 
-	 * table before
+	 * provides all satisfying assignments of all variables of the 
+	 * VariableOrdering
+	 * (For large numbers of assignments satIterator should be used instead.)
 	 * @param varOrd - the VariableOrdering
-	 * @return
+	 * @return the assignments, each given as the list of variables assigned 
+	 * 		   one
 	 */
 	public LinkedList<LinkedList<Integer>> allSat(VariableOrdering varOrd) {
-		// clearing the computed table
-		allSatCT.clear();
-		// calling the actual (recursive) algorithm
-		return allSatRec(varOrd.getOrdList());
+		LinkedList<LinkedList<Integer>> allSatList = 
+				new LinkedList<LinkedList<Integer>>();
+		// collecting the assignments one by one
+		Iterator<LinkedList<Integer>> iter = satIterator(varOrd);
+		while (iter.hasNext()) allSatList.add(iter.next());
+		return allSatList;
+	}
+	
+	
+	/**
+	 * provides an iterator over the satisfying assignments of all variables 
+	 * of the VariableOrdering, which finds them one at a time
+	 * @param varOrd - the VariableOrdering
+	 * @return the iterator; each assignment is given as the list of variables 
+	 * 		   assigned one
+	 */
+	public Iterator<LinkedList<Integer>> satIterator(VariableOrdering varOrd) {
+		return new SatIterator(NodeTable.forOrdering(varOrd), id);
 	}
 	
 	
 	/**
-	 * provides all satisfying assignments for an OBDD
-	 * @param varOrdList - the list of "all" variables
+	 * provides an iterator over the cubes of this OBDD, i.e. the assignments 
+	 * of the variables on its paths to the 1-terminal (all other variables 
+	 * being "don't cares")
+	 * @param varOrd - the VariableOrdering
+	 * @return the iterator
+	 */
+	public Iterator<LinkedHashMap<Integer, Boolean>> cubeIterator(
+			VariableOrdering varOrd) {
+		return new CubeIterator(NodeTable.forOrdering(varOrd), id);
+	}
+	
+	
+	/**
+	 * provides a spliterator over the satisfying assignments of all variables 
+	 * of the VariableOrdering (see satIterator)
+	 * @param varOrd - the VariableOrdering
+	 * @return the spliterator (sized if the number of assignments fits into a 
+	 * 		   long)
+	 */
+	public Spliterator<LinkedList<Integer>> satSpliterator(
+			VariableOrdering varOrd) {
+		int characteristics = Spliterator.ORDERED | Spliterator.DISTINCT | 
+				Spliterator.NONNULL | Spliterator.IMMUTABLE;
+		BigInteger count = count(varOrd);
+		if (count.bitLength() < Long.SIZE)
+			return Spliterators.spliterator(satIterator(varOrd), 
+					count.longValue(), characteristics);
+		return Spliterators.spliteratorUnknownSize(satIterator(varOrd), 
+				characteristics);
+	}
+	
+	
+	/**
+	 * provides a (sequential) stream of the satisfying assignments of all 
+	 * variables of the VariableOrdering (see satIterator)
+	 * @param varOrd - the VariableOrdering
 	 * @return
 	 */
-	private LinkedList<LinkedList<Integer>> allSatRec(LinkedList<Integer> varOrdList) {
-		if (terminal) {
-			LinkedList<LinkedList<Integer>> emptyList = new LinkedList<LinkedList<Integer>>();
-			if (value) {
-				// If the node is the 1-terminal, a list containing an empty 
-				// list is returned.
-				emptyList.add(new LinkedList<Integer>());
-			}
-			// If the node is the 0-terminal, only an empty list is returned.
-			return emptyList;
-		}
-		// returning the list stated in the computed table for this node
-		// (if there is one)
-		if (allSatCT.containsKey(id)) {
-			return allSatCT.get(id);
-		} else {
-			// getting the position of the node's variable in the given variable list
-			int varPos = varOrdList.indexOf(var);
-			// initializing a list for all variables that were "missing" before the 
-			// node's one
-			LinkedList<Integer> missingVars = new LinkedList<Integer>();
-			// moving all variables in the list before the node's one to the list 
-			// of "missing" variables
-			for (int i = 0; i < varPos; i++) {
-				 missingVars.add(varOrdList.poll());
-			}
-			// creating the "power list" of the list of "missing" variables
-			LinkedList<LinkedList<Integer>> missingVarsPL = powerList(missingVars);
-			// removing this node's variable form the variable list
-			varOrdList.poll();
-			// getting all satisfying assignments for the node's high child
-			LinkedList<LinkedList<Integer>> allSatList = 
-					highChild.allSatRec(varOrdList);
-			// initializing a variable for satisfying assignments for the node's 
-			// high child
-			LinkedList<Integer> satHC;
-			// for each satisfying assignment of the node's high child, adding the 
-			// node's variable to the beginning of the list
-			for (int i = 0; i < allSatList.size(); i++) {
-				satHC = allSatList.get(i);
-				satHC.addFirst(var);
-				allSatList.set(i, satHC);
-			}
-			// getting all satisfying assignments for the node's low child
-			allSatList.addAll(lowChild.allSatRec(varOrdList));
-			// initializing an empty list for all satisfying assignments including 
-			// the "missing" variables" 
-			LinkedList<LinkedList<Integer>> allSatWithMissing = 
-					new LinkedList<LinkedList<Integer>>();
-			// initializing a variable for the individual satisfying assignments 
-			// with "missing" variables
-			LinkedList<Integer> satWithMissing;
-			// for each list of "missing" variables and each satisfying assignment 
-			// so far, adding each possible combination of elements of the two sets 
-			// to the list of satisfying assignments with "missing" variables
-			for (LinkedList<Integer> mVList : missingVarsPL) {
-				for (LinkedList<Integer> satList : allSatList) {
-					// setting the new assignment to the current list of "missing" 
-					// variables
-					satWithMissing = mVList;
-					// adding the current satisfying assignment
-					satWithMissing.addAll(satList);
-					// adding the "complete" assignment to the list
-					allSatWithMissing.add(satWithMissing);
-				}
-			}
-			// putting all satisfying assignments including "missing" variables 
-			// for this node into the computed table
-			allSatCT.put(id, allSatWithMissing);
-			// returning the assignments
-			return allSatWithMissing;
-		}
+	public Stream<LinkedList<Integer>> satStream(VariableOrdering varOrd) {
+		return StreamSupport.stream(satSpliterator(varOrd), false);
+	}
+	
+	
+	/**
+	 * provides a sampler for uniformly random satisfying assignments of all 
+	 * variables of the VariableOrdering
+	 * @param varOrd - the VariableOrdering
+	 * @param random - the random number generator
+	 * @return
+	 */
+	public Sampler sampler(VariableOrdering varOrd, Random random) {
+		return new Sampler(NodeTable.forOrdering(varOrd), id, random);
 	}
 	
 	
 	/**
-	 * provides a "power list" for a given list of variables 
-	 * (integers)
-	 * @param varList - the list of variables (integers)
-	 * @return the "power list"
+	 * provides a sampler for uniformly random satisfying assignments of all 
+	 * variables of the VariableOrdering with a seeded random number generator
+	 * (The same seed always provides the same samples.)
+	 * @param varOrd - the VariableOrdering
+	 * @param seed - the random number generator's seed
+	 * @return
 	 */
-	private LinkedList<LinkedList<Integer>> powerList(LinkedList<Integer> varList) {
-		// initializing a list with an empty list in it
-		LinkedList<LinkedList<Integer>> powList = new LinkedList<LinkedList<Integer>>();
-		powList.add(new LinkedList<Integer>());
-		// iterator for the list of variables
-		java.util.Iterator<Integer> iter = varList.iterator();
-		// iterating over the variables
-		while (iter.hasNext()) {
-			// for each list already in the "power list" adding a new one 
-			// that's a copy of that list except the next variable is also in
-			for (LinkedList<Integer> list : powList) {
-				list.add(iter.next());
-				powList.add(list);
-			}
-		}
-		// returning the complete "power list"
-		return powList;
+	public Sampler sampler(VariableOrdering varOrd, long seed) {
+		return sampler(varOrd, new Random(seed));
 	}
 	
 	
 	/**
-	 * method that provides the (recursive) naming method and updates the layer
-	 * HashMap before
+	 * method that provides the (recursive) naming method and retrieves each 
+	 * node's position inside its layer before
 	 * @param obddName
 	 */
 	public void nameNodes(String obddName) {
-		updateLayers(this);
-		nameNodesRec(obddName, 1);
+		IdentityHashMap<OBDD, Integer> layerPositions = 
+				new IdentityHashMap<OBDD, Integer>();
+		for (OBDD[] layer : layerIndex().values()) {
+			for (int position = 0; position < layer.length; position++) 
+				layerPositions.put(layer[position], position + 1);
+		}
+		nameNodesRec(obddName, 1, layerPositions);
 	}
 	
 	/**
@@ -1501,17 +1765,21 @@ public class OBDD {
 	 * OBDD and the node's position in it
 	 * @param obddName
 	 * @param layerNumber - the number of the current layer
+	 * @param layerPositions - each node's position inside its layer
 	 */
-	private void nameNodesRec(String obddName, int layerNumber) {
+	private void nameNodesRec(String obddName, int layerNumber, 
+			IdentityHashMap<OBDD, Integer> layerPositions) {
 		// Only non-terminal nodes are named.
 		if (!terminal) {
 			// retrieving the position inside the layer
-			int layerPosition = layers.get(var).indexOf(this) + 1;
+			int layerPosition = layerPositions.get(this);
 			// naming the node
 			name = obddName + "(" + layerNumber + "," + layerPosition + ")";
 			// recursively calling the node's children
-			highChild.nameNodesRec(obddName, layerNumber + 1);
-			lowChild.nameNodesRec(obddName, layerNumber + 1);
+			getHighChild().nameNodesRec(obddName, layerNumber + 1, 
+					layerPositions);
+			getLowChild().nameNodesRec(obddName, layerNumber + 1, 
+					layerPositions);
 		}
 	}
 }
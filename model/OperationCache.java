@@ -0,0 +1,183 @@
+package model;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The slots consist of primitive values, so storing a result doesn't allocate
+ * anything. Each slot has a version that is odd while a thread writes the 
+ * slot, so several threads may use a cache at the same time without locking.
+ * (A thread may miss a result another thread has just stored, but it never 
+ * gets a wrong one.)
+ * @author TimNP
+ *
+ */
+public class OperationCache {
+	/**
+	 * the default number of slots
+	 */
+	public static final int DEFAULT_SIZE = 1 << 18;
+	/**
+	 * bit marking the keys of used slots
+	 * (The packed IDs aren't negative, so an empty slot's key 0 never matches.)
+	 */
+	private static final long USED = Long.MIN_VALUE;
+	/**
+	 * the slots' keys: the two operand IDs packed into one long
+	 */
+	private final AtomicLongArray keys;
+	/**
+	 * the slots' operation codes and results, packed into one long
+	 */
+	private final AtomicLongArray entries;
+	/**
+	 * the slots' versions
+	 * (A slot's version is odd while it's being written and increases with 
+	 *  every write.)
+	 */
+	private final AtomicIntegerArray versions;
+
+
+
+	/**
+	 * constructor for an empty operation cache with the default size
+	 */
+	public OperationCache() {
+		this(DEFAULT_SIZE);
+	}
+
+
+	/**
+	 * constructor for an empty operation cache
+	 * @param size - the number of slots (rounded up to a power of two)
+	 */
+	public OperationCache(int size) {
+		// rounding the size up to a power of two
+		int capacity = Integer.highestOneBit(Math.max(size, 2) - 1) << 1;
+		// initializing the (empty) slots
+		keys = new AtomicLongArray(capacity);
+		entries = new AtomicLongArray(capacity);
+		versions = new AtomicIntegerArray(capacity);
+	}
+
+
+	/**
+	 * getter for the number of slots
+	 * @return
+	 */
+	public int size() {
+		return keys.length();
+	}
+
+
+	/**
+	 * searches the cache for the result of an operation on two nodes
+	 * @param op - the operation code
+	 * @param firstId - the first operand's ID
+	 * @param secondId - the second operand's ID
+	 * @return the stored result; -1 if there is none
+	 */
+	public int lookup(int op, int firstId, int secondId) {
+		// packing the two IDs into the key
+		long key = pack(firstId, secondId) | USED;
+		// Each key and operation has exactly one slot.
+		int i = hash(op, key) & (keys.length() - 1);
+		// There is no result while another thread writes the slot.
+		int version = versions.get(i);
+		if ((version & 1) != 0) return -1;
+		// reading the slot
+		long storedKey = keys.get(i);
+		long entry = entries.get(i);
+		// The key and the entry only belong together if the slot hasn't been
+		// written meanwhile.
+		if (versions.get(i) != version) return -1;
+		// returning the result if the slot holds the key and operation
+		if (storedKey == key && (int) (entry >>> 32) == op) return (int) entry;
+		// Otherwise there is no result.
+		return -1;
+	}
+
+
+	/**
+	 * stores the result of an operation on two nodes, overwriting the result
+	 * that was stored in the same slot before
+	 * (If another thread is writing the same slot, the result isn't stored.)
+	 * @param op - the operation code
+	 * @param firstId - the first operand's ID
+	 * @param secondId - the second operand's ID
+	 * @param result - the resulting node or value (not -1)
+	 */
+	public void insert(int op, int firstId, int secondId, int result) {
+		// packing the two IDs into the key
+		long key = pack(firstId, secondId) | USED;
+		// Each key and operation has exactly one slot.
+		int i = hash(op, key) & (keys.length() - 1);
+		// claiming the slot by making its version odd
+		int version = versions.get(i);
+		if ((version & 1) != 0 || 
+				!versions.compareAndSet(i, version, version + 1)) return;
+		// (over)writing the slot
+		keys.lazySet(i, key);
+		entries.lazySet(i, ((long) op << 32) | (result & 0xFFFFFFFFL));
+		// releasing the slot with the next even version
+		versions.lazySet(i, version + 2);
+	}
+
+
+	/**
+	 * reads a slot's result along with its operation code and operands
+	 * (No other thread may write the cache meanwhile.)
+	 * @param slot - the slot's index
+	 * @param entry - array receiving the operation code, the first and the 
+	 * 		  second operand's ID and the result
+	 * @return whether the slot holds a result
+	 */
+	boolean read(int slot, int[] entry) {
+		long key = keys.get(slot);
+		// Slots with key 0 are empty.
+		if (key == 0) return false;
+		long stored = entries.get(slot);
+		entry[0] = (int) (stored >>> 32);
+		// (leaving out the bit marking used slots)
+		entry[1] = (int) (key >>> 32) & Integer.MAX_VALUE;
+		entry[2] = (int) key;
+		entry[3] = (int) stored;
+		return true;
+	}
+
+
+	/**
+	 * removes all results from the cache
+	 * (No other thread may use the cache meanwhile.)
+	 */
+	public void clear() {
+		// Slots with key 0 are empty.
+		for (int i = 0; i < keys.length(); i++) keys.lazySet(i, 0);
+	}
+
+
+	/**
+	 * auxiliary function that packs two (non-negative) IDs into one long
+	 * @param firstId
+	 * @param secondId
+	 * @return
+	 */
+	private static long pack(int firstId, int secondId) {
+		return ((long) firstId << 32) | (secondId & 0xFFFFFFFFL);
+	}
+
+
+	/**
+	 * auxiliary function that provides a hash value for an operation code and
+	 * a key
+	 * @param op
+	 * @param key
+	 * @return
+	 */
+	private static int hash(int op, long key) {
+		// mixing the key's bits with the operation code's ones
+		long h = key * 0x9E3779B97F4A7C15L + op * 0xC2B2AE3D27D4EB4FL;
+		// folding the higher bits onto the lower ones
+		return (int) (h ^ (h >>> 32));
+	}
+}
@@ -0,0 +1,232 @@
+package model;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Random;
+
+/**
+ * sampler for uniformly random satisfying assignments of a node in a node
+ * table (of all variables of the table's VariableOrdering)
+ * The nodes below the root are copied once, together with the probability
+ * of their high branch among their satisfying assignments, so each sample is
+ * drawn by a single walk from the root to the 1-terminal.
+ * Changes of the node table (e.g. garbage collection or reordering) after
+ * the construction don't affect the sampler.
+ * @author TimNP
+ *
+ */
+public class Sampler {
+	/**
+	 * the random number generator
+	 */
+	private final Random random;
+	/**
+	 * the VariableOrdering
+	 */
+	private final VariableOrdering varOrd;
+	/**
+	 * the root's edge among the copied nodes
+	 * (copied index shifted left by one bit, plus one if complemented;
+	 *  0 and 1 being the terminals)
+	 */
+	private final int root;
+	/**
+	 * the position of each copied node's variable in the VariableOrdering
+	 */
+	private final int[] positions;
+	/**
+	 * each copied node's high child edge
+	 */
+	private final int[] highs;
+	/**
+	 * each copied node's low child edge
+	 */
+	private final int[] lows;
+	/**
+	 * for each copied node, the probability that a random satisfying
+	 * assignment of the regular node assigns its variable one
+	 */
+	private final double[] probabilities;
+	/**
+	 * the same probabilities for the complemented nodes
+	 */
+	private final double[] complementProbabilities;
+	/**
+	 * whether the root has any satisfying assignment
+	 */
+	private final boolean satisfiable;
+
+
+	/**
+	 * constructor for a sampler of a node's satisfying assignments
+	 * @param table - the node table
+	 * @param node - the node (edge)
+	 * @param random - the random number generator
+	 */
+	public Sampler(NodeTable table, int node, Random random) {
+		this.random = random;
+		varOrd = table.getVarOrd();
+		// The table mustn't change while the nodes are copied.
+		table.readLock().lock();
+		try {
+			// numbering the nodes below the root (the terminal being 0)
+			HashMap<Integer, Integer> indices = 
+					new HashMap<Integer, Integer>();
+			indices.put(0, 0);
+			number(table, node >>> 1, indices);
+			// initializing the copies
+			int size = indices.size();
+			positions = new int[size];
+			highs = new int[size];
+			lows = new int[size];
+			probabilities = new double[size];
+			complementProbabilities = new double[size];
+			// The model counts are computed only once for all nodes.
+			HashMap<Integer, BigInteger> counts = 
+					new HashMap<Integer, BigInteger>();
+			for (int index : indices.keySet()) {
+				if (index == 0) continue;
+				int copy = indices.get(index);
+				int f = index << 1;
+				positions[copy] = table.depth(f);
+				int high = table.getHigh(f);
+				int low = table.getLow(f);
+				highs[copy] = (indices.get(high >>> 1) << 1) | (high & 1);
+				lows[copy] = (indices.get(low >>> 1) << 1) | (low & 1);
+				probabilities[copy] = probability(table, f, counts);
+				complementProbabilities[copy] = 
+						probability(table, f | 1, counts);
+			}
+			root = (indices.get(node >>> 1) << 1) | (node & 1);
+			satisfiable = table.countRec(node, counts).signum() > 0;
+		} finally {
+			table.readLock().unlock();
+		}
+	}
+
+
+	/**
+	 * draws a uniformly random satisfying assignment
+	 * @return the list of variables assigned one (in the VariableOrdering's
+	 * 		   order); null if there is no satisfying assignment
+	 */
+	public LinkedList<Integer> sample() {
+		boolean[] values = new boolean[varOrd.size()];
+		if (!sample(values)) return null;
+		// listing the variables assigned one
+		LinkedList<Integer> assignedOne = new LinkedList<Integer>();
+		for (int i = 0; i < values.length; i++)
+			if (values[i]) assignedOne.add(varOrd.get(i));
+		return assignedOne;
+	}
+
+
+	/**
+	 * draws a number of uniformly random satisfying assignments
+	 * @param number - the number of assignments
+	 * @return the assignments, each given as the values of the positions of
+	 * 		   the VariableOrdering; null if there is no satisfying assignment
+	 */
+	public boolean[][] sample(int number) {
+		if (!satisfiable) return null;
+		boolean[][] samples = new boolean[number][varOrd.size()];
+		for (boolean[] values : samples) sample(values);
+		return samples;
+	}
+
+
+	/**
+	 * draws a uniformly random satisfying assignment into a given array
+	 * (without creating any objects)
+	 * @param values - the array for the values of the positions of the
+	 * 		   VariableOrdering
+	 * @return whether there is a satisfying assignment
+	 */
+	public boolean sample(boolean[] values) {
+		if (!satisfiable) return false;
+		// a supply of random bits (refilled every 64 bits)
+		long bits = 0;
+		int bitCount = 0;
+		// assigning all variables random values first, so the ones skipped
+		// by the path are uniformly distributed
+		for (int i = 0; i < values.length; i++) {
+			if (bitCount == 0) {
+				bits = random.nextLong();
+				bitCount = 64;
+			}
+			values[i] = (bits & 1) != 0;
+			bits >>>= 1;
+			bitCount--;
+		}
+		// walking from the root to the 1-terminal
+		int edge = root;
+		while (edge > 1) {
+			int copy = edge >>> 1;
+			// choosing the high branch with its share of the assignments
+			double probability = ((edge & 1) == 0) ? probabilities[copy] :
+				complementProbabilities[copy];
+			boolean value;
+			if (probability == 0 || probability == 1) {
+				// A branch without assignments is never chosen.
+				value = probability == 1;
+			} else if (probability == 0.5) {
+				// Branches with equal shares only need one random bit.
+				if (bitCount == 0) {
+					bits = random.nextLong();
+					bitCount = 64;
+				}
+				value = (bits & 1) != 0;
+				bits >>>= 1;
+				bitCount--;
+			} else {
+				value = random.nextDouble() < probability;
+			}
+			values[positions[copy]] = value;
+			// A complemented node has complemented children.
+			edge = (value ? highs[copy] : lows[copy]) ^ (edge & 1);
+		}
+		return true;
+	}
+
+
+	/**
+	 * auxiliary method that numbers the (regular) nodes below a node
+	 * @param table - the node table
+	 * @param index - the node's index
+	 * @param indices - the numbers of the nodes numbered so far
+	 */
+	private static void number(NodeTable table, int index,
+			HashMap<Integer, Integer> indices) {
+		if (indices.containsKey(index)) return;
+		indices.put(index, indices.size());
+		number(table, table.getHigh(index << 1) >>> 1, indices);
+		number(table, table.getLow(index << 1) >>> 1, indices);
+	}
+
+
+	/**
+	 * auxiliary function that provides the probability that a random
+	 * satisfying assignment of a node assigns the node's variable one
+	 * @param table - the node table
+	 * @param f - the node
+	 * @param counts - the numbers of the nodes counted so far
+	 * @return the probability; 0 if the node is unsatisfiable
+	 */
+	private static double probability(NodeTable table, int f,
+			HashMap<Integer, BigInteger> counts) {
+		// the numbers of assignments through both children (each multiplied
+		// with the assignments of the variables skipped on the way)
+		int high = table.getHigh(f);
+		int low = table.getLow(f);
+		BigInteger highCount = table.countRec(high, counts)
+				.shiftLeft(table.depth(high) - table.depth(f) - 1);
+		BigInteger total = highCount.add(table.countRec(low, counts)
+				.shiftLeft(table.depth(low) - table.depth(f) - 1));
+		if (total.signum() == 0) return 0;
+		// cutting off the lowest bits, so both numbers fit into a double
+		int shift = Math.max(total.bitLength() - 62, 0);
+		return highCount.shiftRight(shift).doubleValue() /
+				total.shiftRight(shift).doubleValue();
+	}
+}
@@ -0,0 +1,109 @@
+package model;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+
+/**
+ * iterator over the satisfying assignments of all variables of a node
+ * table's VariableOrdering, each given as the list of variables assigned one
+ * (in the VariableOrdering's order)
+ * The cubes of the node are expanded one at a time by counting through the
+ * assignments of their "don't care" variables, so the assignments are
+ * provided on demand.
+ * The node table mustn't be collected or reordered during the iteration.
+ * @author TimNP
+ *
+ */
+public class SatIterator implements Iterator<LinkedList<Integer>> {
+	/**
+	 * the iterator over the node's cubes
+	 */
+	private final CubeIterator cubes;
+	/**
+	 * the VariableOrdering
+	 */
+	private final VariableOrdering varOrd;
+	/**
+	 * the current cube's value for each position of the VariableOrdering
+	 * (null for the "don't care" variables)
+	 */
+	private final Boolean[] cube;
+	/**
+	 * the current value of each position of the VariableOrdering
+	 * (The "don't care" positions form a binary counter.)
+	 */
+	private final boolean[] values;
+	/**
+	 * whether the current assignment hasn't been returned yet
+	 */
+	private boolean found;
+
+
+	/**
+	 * constructor for an iterator over the satisfying assignments of a node
+	 * @param table - the node table
+	 * @param root - the node (edge)
+	 */
+	public SatIterator(NodeTable table, int root) {
+		cubes = new CubeIterator(table, root);
+		varOrd = table.getVarOrd();
+		cube = new Boolean[varOrd.size()];
+		values = new boolean[varOrd.size()];
+		// starting with the first cube (if there is one)
+		nextCube();
+	}
+
+
+	/**
+	 * states whether there is another element
+	 */
+	@Override
+	public boolean hasNext() {
+		return found;
+	}
+
+
+	/**
+	 * provides the next element
+	 */
+	@Override
+	public LinkedList<Integer> next() {
+		if (!found) throw new NoSuchElementException();
+		// listing the variables assigned one
+		LinkedList<Integer> assignedOne = new LinkedList<Integer>();
+		for (int i = 0; i < values.length; i++)
+			if (values[i]) assignedOne.add(varOrd.get(i));
+		// incrementing the counter of the "don't care" variables (the lowest
+		// one being the least significant bit)
+		int i = values.length - 1;
+		while (i >= 0 && (cube[i] != null || values[i])) {
+			if (cube[i] == null) values[i] = false;
+			i--;
+		}
+		// If the counter overflows, the current cube is exhausted.
+		if (i >= 0) values[i] = true;
+		else nextCube();
+		return assignedOne;
+	}
+
+
+	/**
+	 * auxiliary method that moves on to the next cube and its first
+	 * assignment (all "don't care" variables assigned zero)
+	 */
+	private void nextCube() {
+		found = cubes.hasNext();
+		if (!found) return;
+		// clearing the previous cube
+		Arrays.fill(cube, null);
+		// entering the variables of the cube
+		LinkedHashMap<Integer, Boolean> next = cubes.next();
+		for (int var : next.keySet()) cube[varOrd.indexOf(var)] = next.get(var);
+		// assigning the cube's values and zero to the "don't cares"
+		for (int i = 0; i < values.length; i++)
+			values[i] = (cube[i] != null) && cube[i];
+	}
+}
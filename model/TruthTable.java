@@ -122,7 +122,7 @@ public class TruthTable {
 				lowChild = OBDD.ONE;
 			} else lowChild = OBDD.ZERO;
 			// creating the new node
-			currentNode = highChild.cons(vars.getLast(), lowChild, varOrd);
+			currentNode = highChild.consNew(vars.getLast(), lowChild, varOrd);
 			// adding the new node to (the end of) the layer below list
 			layerBelow.add(currentNode);
 		}
@@ -136,7 +136,7 @@ public class TruthTable {
 				lowChild = layerBelow.poll();
 				// creating the new node
 				currentNode = 
-						highChild.cons(vars.get(layer), lowChild, varOrd);
+						highChild.consNew(vars.get(layer), lowChild, varOrd);
 				// adding the new node to (the end of) the layer below list
 				layerBelow.add(currentNode);
 			}
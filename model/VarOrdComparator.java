@@ -32,7 +32,7 @@ public class VarOrdComparator implements Comparator<Integer>{
 		// If there is no given VariableOrdering, the variables are assumed to 
 		// be sorted ascending with the lowest number on the first/highest 
 		// position.
-		if (this.varOrd.getOrdList().isEmpty()) {
+		if (this.varOrd.isEmpty()) {
 			if (a == b) {
 				return 0;
 			} else {
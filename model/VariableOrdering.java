@@ -1,5 +1,6 @@
 package model;
 
+import java.util.Arrays;
 import java.util.LinkedList;
 
 /**
@@ -9,61 +10,85 @@ import java.util.LinkedList;
  */
 public class VariableOrdering {
 	/**
-	 * list representing the actual variable ordering
+	 * the variable on each position of the ordering (the first one being the
+	 * highest)
 	 */
-	private LinkedList<Integer> ordList;
+	private final int[] order;
+	/**
+	 * each variable's position in the ordering
+	 * (-1 for variables that aren't part of it)
+	 */
+	private final int[] positions;
 	
 	
 	/**
 	 * getter for the ordering list
+	 * (The list is a copy, so changing it doesn't change the
+	 *  VariableOrdering.)
 	 * @return the ordering list
 	 */
 	public LinkedList<Integer> getOrdList() {
+		LinkedList<Integer> ordList = new LinkedList<Integer>();
+		for (int var : order) ordList.add(var);
 		return ordList;
 	}
 	
+	
 	/**
-	 * setter for the ordering list
+	 * constructor for a VariableOrdering with variables of the type X0,X1,...
 	 * @param ordList
 	 */
-	public void setOrdList(LinkedList<Integer> ordList) {
-		// initializing the ordering list
-		this.ordList = new LinkedList<Integer>();
-		// initializing a "storage" for the moved variable
-		int movedVar;
-		// moving variables until the input list is empty
-		while (!ordList.isEmpty()) {
-			// moving the first variable first to keep the order
-			movedVar = ordList.removeFirst();
+	public VariableOrdering (LinkedList<Integer> ordList) {
+		// initializing the ordering with the list's size
+		int[] order = new int[ordList.size()];
+		int size = 0;
+		// retrieving the highest variable number
+		int maxVar = -1;
+		for (int var : ordList) maxVar = Math.max(maxVar, var);
+		// initializing the positions
+		positions = new int[maxVar + 1];
+		Arrays.fill(positions, -1);
+		// adding the variables in the list's order
+		for (int var : ordList) {
 			// TODO?
 			// tentative solution for multiple appearances of the same integer:
-			// removing all but the first appearance 
-			while (ordList.lastIndexOf(movedVar) >= 0) {
-				ordList.removeLastOccurrence(movedVar);
-			}
-			// adding the variable to this objects list
-			this.ordList.add(movedVar);
+			// ignoring all but the first appearance
+			if (positions[var] < 0) {
+				positions[var] = size;
+				order[size++] = var;
 			}
 		}
+		// cutting off the places of ignored appearances
+		this.order = Arrays.copyOf(order, size);
+	}
 	
 	
 	/**
-	 * constructor for a VariableOrdering with variables of the type X0,X1,...
-	 * @param ordList
+	 * constructor for a VariableOrdering given by an array of distinct
+	 * variables
+	 * @param order
 	 */
-	public VariableOrdering (LinkedList<Integer> ordList) {
-		// setting the ordering list
-		setOrdList(ordList);
+	VariableOrdering (int[] order) {
+		this.order = order.clone();
+		// retrieving the highest variable number
+		int maxVar = -1;
+		for (int var : order) maxVar = Math.max(maxVar, var);
+		// initializing the positions
+		positions = new int[maxVar + 1];
+		Arrays.fill(positions, -1);
+		for (int position = 0; position < order.length; position++)
+			positions[order[position]] = position;
 	}
 	
 	
 	/**
 	 * function that provides a variable's position in the order
 	 * @param var
-	 * @return the variable's position (as integer)
+	 * @return the variable's position (as integer); -1 if the variable isn't
+	 * 		   part of the VariableOrdering
 	 */
 	public int indexOf(int var) {
-		return ordList.indexOf(var);
+		return (var >= 0 && var < positions.length) ? positions[var] : -1;
 	}
 	
 	
@@ -74,16 +99,11 @@ public class VariableOrdering {
 	 * @return the reduced VariableOrdering
 	 */
 	public VariableOrdering removeBefore(int var) {
-		// initializing the new VariableOrdering as this one
-		VariableOrdering reducedOrd = this;
 		// getting the index of the given variable
-		int index = reducedOrd.indexOf(var);
-		// removing all variables in the VariableOrdering before the given one
-		for (int i = 0; i < index; i++) {
-			reducedOrd.ordList.removeFirst();
-		}
-		// returning the reduced VariableOrdering
-		return reducedOrd;
+		int index = Math.max(indexOf(var), 0);
+		// creating a new VariableOrdering from the remaining variables
+		return new VariableOrdering(Arrays.copyOfRange(order, index,
+				order.length));
 	}
 	
 	
@@ -91,7 +111,7 @@ public class VariableOrdering {
 	 * @return whether the VariableOrdering is empty
 	 */
 	public boolean isEmpty() {
-		return ordList.isEmpty();
+		return order.length == 0;
 	}
 	
 	
@@ -99,7 +119,7 @@ public class VariableOrdering {
 	 * @return the number of variables in the VariableOrdering
 	 */
 	public int size() {
-		return ordList.size();
+		return order.length;
 	}
 	
 	
@@ -107,7 +127,7 @@ public class VariableOrdering {
 	 * @return the VariableOrdering's first (highest) variable
 	 */
 	public int getFirst() {
-		return ordList.getFirst();
+		return order[0];
 	}
 	
 	
@@ -115,7 +135,7 @@ public class VariableOrdering {
 	 * @return the VariableOrdering's last (lowest) variable
 	 */
 	public int getLast() {
-		return ordList.getLast();
+		return order[order.length - 1];
 	}
 	
 	
@@ -124,7 +144,27 @@ public class VariableOrdering {
 	 * @return the VariableOrdering's variable at the given index
 	 */
 	public int get(int index) {
-		return ordList.get(index);
+		return order[index];
+	}
+	
+	
+	/**
+	 * states whether a given object is a VariableOrdering with the same
+	 * variables in the same order
+	 */
+	@Override
+	public boolean equals(Object o) {
+		return (o instanceof VariableOrdering) &&
+				Arrays.equals(order, ((VariableOrdering) o).order);
+	}
+	
+	
+	/**
+	 * provides a hash code that is the same for equal VariableOrderings
+	 */
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(order);
 	}
 
-}
\ No newline at end of file
+}
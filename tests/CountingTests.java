@@ -0,0 +1,54 @@
+package tests;
+
+import java.math.BigInteger;
+import java.util.LinkedList;
+
+import model.*;
+
+/**
+ * compares the numbers of satisfying assignments with the ones of the truth
+ * tables, also for more variables than a long or a double can count exactly
+ * @author TimNP
+ *
+ */
+public class CountingTests {
+
+	public static void main(String[] args) {
+		VariableOrdering varOrd = OperationTests.varOrd();
+		OBDD fObdd = OperationTests.f().toRobdd(varOrd);
+		// counting f's satisfying assignments
+		int fCount = 0;
+		for (boolean value : OperationTests.truthTable(fObdd))
+			if (value) fCount++;
+		boolean countCorrect = fObdd.count(varOrd).intValue() == fCount &&
+				fObdd.number(varOrd) == fCount &&
+				fObdd.countDouble(varOrd) == fCount &&
+				Math.abs(fObdd.countLog2(varOrd) - Math.log(fCount) /
+						Math.log(2)) < 1e-9;
+		
+		// X1 * X2 with 1100 variables: 2^1098 satisfying assignments, which
+		// is too many for a double
+		LinkedList<Integer> list = new LinkedList<Integer>();
+		for (int var = 1; var <= 1100; var++) list.add(var);
+		VariableOrdering largeVarOrd = new VariableOrdering(list);
+		OBDD x1 = OBDD.ONE.cons(1, OBDD.ZERO, largeVarOrd);
+		OBDD x2 = OBDD.ONE.cons(2, OBDD.ZERO, largeVarOrd);
+		OBDD large = x1.apply(x2, OBDD.AND, largeVarOrd);
+		boolean largeCountCorrect = large.count(largeVarOrd).equals(
+				BigInteger.ONE.shiftLeft(1098)) &&
+				Double.isInfinite(large.countDouble(largeVarOrd)) &&
+				Math.abs(large.countLog2(largeVarOrd) - 1098) < 1e-9;
+		// The 0-terminal has no satisfying assignments.
+		boolean zeroCountCorrect = OBDD.ZERO.count(varOrd).signum() == 0 &&
+				OBDD.ZERO.countDouble(varOrd) == 0 &&
+				OBDD.ZERO.countLog2(varOrd) == Double.NEGATIVE_INFINITY;
+		
+		System.out.println("count, number, countDouble and countLog2 are " +
+				"correct: " + countCorrect +
+				"\nThe counts are correct for 1100 variables: " +
+				largeCountCorrect +
+				"\nThe counts are correct for the 0-terminal: " +
+				zeroCountCorrect);
+	}
+
+}
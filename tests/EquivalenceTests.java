@@ -0,0 +1,74 @@
+package tests;
+
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+
+import model.*;
+
+/**
+ * compares the classes of equivalent nodes found in one pass with pairwise
+ * equivalence tests
+ * @author TimNP
+ *
+ */
+public class EquivalenceTests {
+
+	public static void main(String[] args) {
+		VariableOrdering varOrd = OperationTests.varOrd();
+		OBDD complete =
+				OperationTests.f().entireTruthTable(varOrd).toObdd(varOrd);
+		LinkedList<LinkedList<OBDD>> equivClasses =
+				complete.findEquivalenceClasses(varOrd);
+		// mapping each node to its class
+		IdentityHashMap<OBDD, LinkedList<OBDD>> classOf =
+				new IdentityHashMap<OBDD, LinkedList<OBDD>>();
+		for (LinkedList<OBDD> equivClass : equivClasses)
+			for (OBDD node : equivClass) classOf.put(node, equivClass);
+		// Two nodes of a layer are equivalent if and only if they're in the
+		// same class.
+		boolean classesCorrect = true;
+		for (int var : varOrd.getOrdList()) {
+			OBDD[] layer = complete.getLayer(var);
+			for (OBDD first : layer)
+				for (OBDD second : layer)
+					if (first != second)
+						classesCorrect &= first.isEquivalent(second) ==
+								(classOf.containsKey(first) &&
+								classOf.get(first) == classOf.get(second));
+		}
+		// The classes are ordered from top to bottom.
+		int previousLevel = -1;
+		for (LinkedList<OBDD> equivClass : equivClasses) {
+			int level = varOrd.getOrdList().indexOf(
+					equivClass.getFirst().getVar());
+			classesCorrect &= level >= previousLevel;
+			previousLevel = level;
+		}
+		
+		// findEquivalent provides the other nodes of a node's class.
+		boolean findEquivalentCorrect = true;
+		for (OBDD node : NodeIndexTests.nodes(complete)) {
+			LinkedList<OBDD> equivNodes = node.findEquivalent(complete);
+			LinkedList<OBDD> equivClass = classOf.get(node);
+			if (equivClass == null) findEquivalentCorrect &= equivNodes == null;
+			else findEquivalentCorrect &= equivNodes != null &&
+					equivNodes.size() == equivClass.size() - 1 &&
+					!equivNodes.contains(node) &&
+					equivClass.containsAll(equivNodes);
+		}
+		// findAnyEquivalent provides two equivalent nodes until there are
+		// none.
+		LinkedList<OBDD> anyEquiv = complete.findAnyEquivalent(varOrd);
+		boolean findAnyCorrect = anyEquiv != null &&
+				anyEquiv.get(0).isEquivalent(anyEquiv.get(1)) &&
+				complete.reduceQ(varOrd).findAnyEquivalent(varOrd) == null;
+		
+		System.out.println("findEquivalenceClasses provides " +
+				equivClasses.size() + " correct classes: " + classesCorrect +
+				"\nfindEquivalent provides the other nodes of the class: " +
+				findEquivalentCorrect +
+				"\nfindAnyEquivalent provides two equivalent nodes: " +
+				findAnyCorrect);
+	}
+
+}
@@ -0,0 +1,49 @@
+package tests;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+
+import model.*;
+
+/**
+ * checks that garbage collection keeps the nodes still in use and that the
+ * freed indices are reused
+ * @author TimNP
+ *
+ */
+public class GarbageCollectionTests {
+
+	public static void main(String[] args) {
+		VariableOrdering varOrd = OperationTests.varOrd();
+		NodeTable table = NodeTable.forOrdering(varOrd);
+		// the Formulas' ROBDDs, which stay in use
+		OBDD fObdd = OperationTests.f().toRobdd(varOrd);
+		OBDD gObdd = OperationTests.g().toRobdd(varOrd);
+		boolean[] fTable = OperationTests.truthTable(fObdd);
+		boolean[] gTable = OperationTests.truthTable(gObdd);
+		// creating garbage: the results of all operations
+		for (int op = 0; op < 16; op++) fObdd.apply(gObdd, op, varOrd);
+		int size = table.size();
+		
+		// removing all nodes except the ROBDDs' ones
+		LinkedList<OBDD> roots = new LinkedList<OBDD>();
+		roots.add(fObdd);
+		roots.add(gObdd);
+		int removed = OBDD.collectGarbage(varOrd, roots);
+		boolean garbageRemoved = removed > 0 &&
+				table.liveSize() == size - removed;
+		boolean rootsKept =
+				Arrays.equals(OperationTests.truthTable(fObdd), fTable) &&
+				Arrays.equals(OperationTests.truthTable(gObdd), gTable);
+		
+		// creating the same garbage again, which reuses the freed indices
+		for (int op = 0; op < 16; op++) fObdd.apply(gObdd, op, varOrd);
+		boolean indicesReused = table.size() == size;
+		
+		System.out.println("Garbage collection removed " + removed +
+				" nodes: " + garbageRemoved +
+				"\nThe ROBDDs are kept: " + rootsKept +
+				"\nThe freed indices are reused: " + indicesReused);
+	}
+
+}
@@ -0,0 +1,65 @@
+package tests;
+
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Set;
+
+import model.*;
+
+/**
+ * checks that an OBDD's layers contain exactly its nodes, each one in the
+ * layer of its variable
+ * @author TimNP
+ *
+ */
+public class LayerTests {
+
+	public static void main(String[] args) {
+		VariableOrdering varOrd = OperationTests.varOrd();
+		OBDD complete =
+				OperationTests.f().entireTruthTable(varOrd).toObdd(varOrd);
+		// The layers are correct both for the complete OBDD and for the
+		// rebuilt QOBDD.
+		boolean layersCorrect = layersCorrect(complete) &&
+				layersCorrect(complete.reduceQ(varOrd));
+		
+		// The layers are copies, so changing them doesn't change the OBDD.
+		int firstVar = varOrd.getOrdList().get(0);
+		complete.getLayer(firstVar)[0] = null;
+		complete.getLayers().get(firstVar).clear();
+		boolean layersCopied = complete.getLayer(firstVar).length == 1 &&
+				complete.getLayer(firstVar)[0] == complete;
+		// A variable without nodes has an empty layer.
+		boolean emptyCorrect = complete.getLayer(OperationTests.N + 1)
+				.length == 0 && OBDD.ONE.getLayers().isEmpty();
+		
+		System.out.println("The layers contain exactly the OBDDs' nodes, " +
+				"each in its variable's layer: " + layersCorrect +
+				"\nThe layers are copies: " + layersCopied +
+				"\nLayers without nodes are empty: " + emptyCorrect);
+	}
+
+
+	/**
+	 * checks that each of an OBDD's nodes is in its variable's layer, both in
+	 * getLayers and in getLayer, and that the layers contain no other nodes
+	 * @param obdd
+	 * @return
+	 */
+	private static boolean layersCorrect(OBDD obdd) {
+		Set<OBDD> nodes = NodeIndexTests.nodes(obdd);
+		HashMap<Integer, LinkedList<OBDD>> layers = obdd.getLayers();
+		boolean correct = true;
+		int layerNodes = 0;
+		for (int var : layers.keySet()) {
+			OBDD[] layer = obdd.getLayer(var);
+			correct &= layer.length == layers.get(var).size();
+			for (OBDD node : layer)
+				correct &= node.getVar() == var && nodes.contains(node) &&
+						layers.get(var).contains(node);
+			layerNodes += layer.length;
+		}
+		return correct && layerNodes == nodes.size();
+	}
+
+}
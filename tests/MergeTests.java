@@ -0,0 +1,58 @@
+package tests;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedList;
+
+import model.*;
+
+/**
+ * checks that merging all classes of equivalent nodes at once provides the
+ * QOBDD
+ * @author TimNP
+ *
+ */
+public class MergeTests {
+
+	public static void main(String[] args) {
+		VariableOrdering varOrd = OperationTests.varOrd();
+		OBDD complete =
+				OperationTests.f().entireTruthTable(varOrd).toObdd(varOrd);
+		boolean[] fTable = OperationTests.truthTable(complete);
+		// mapping each class of equivalent nodes to its first node
+		HashMap<OBDD, OBDD> representatives = new HashMap<OBDD, OBDD>();
+		for (LinkedList<OBDD> equivClass :
+				complete.findEquivalenceClasses(varOrd))
+			for (OBDD node : equivClass)
+				if (node != equivClass.getFirst())
+					representatives.put(node, equivClass.getFirst());
+		// Merging all classes in one rebuild leaves no equivalent nodes.
+		OBDD merged = complete.merge(representatives, varOrd);
+		boolean mergeAllCorrect =
+				Arrays.equals(OperationTests.truthTable(merged), fTable) &&
+				merged.isQobdd(varOrd) &&
+				merged.findAnyEquivalent(varOrd) == null &&
+				NodeIndexTests.nodes(merged).size() ==
+						NodeIndexTests.nodes(complete.reduceQ(varOrd)).size();
+		
+		// Merging two equivalent nodes removes one of them (and the nodes
+		// below it that aren't reachable anymore).
+		LinkedList<OBDD> anyEquiv = complete.findAnyEquivalent(varOrd);
+		OBDD mergedTwo =
+				complete.merge(anyEquiv.get(0), anyEquiv.get(1), varOrd);
+		boolean mergeTwoCorrect =
+				Arrays.equals(OperationTests.truthTable(mergedTwo), fTable) &&
+				NodeIndexTests.nodes(mergedTwo).size() <
+						NodeIndexTests.nodes(complete).size();
+		// Without nodes to be merged, the OBDD doesn't change.
+		boolean mergeNoneCorrect = complete.merge(
+				new HashMap<OBDD, OBDD>(), varOrd) == complete;
+		
+		System.out.println("Merging all classes provides the QOBDD: " +
+				mergeAllCorrect +
+				"\nMerging two equivalent nodes keeps the function: " +
+				mergeTwoCorrect +
+				"\nMerging no nodes keeps the OBDD: " + mergeNoneCorrect);
+	}
+
+}
@@ -0,0 +1,62 @@
+package tests;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.Set;
+
+import model.*;
+
+/**
+ * checks that an OBDD's nodes are found by their IDs
+ * @author TimNP
+ *
+ */
+public class NodeIndexTests {
+
+	public static void main(String[] args) {
+		VariableOrdering varOrd = OperationTests.varOrd();
+		// the complete OBDD, whose nodes all have different IDs
+		OBDD complete =
+				OperationTests.f().entireTruthTable(varOrd).toObdd(varOrd);
+		Set<OBDD> nodes = nodes(complete);
+		// Each node is found by its ID.
+		boolean nodesFound = true;
+		int maxId = 0;
+		for (OBDD node : nodes) {
+			nodesFound &= complete.getNode(node.getId()) == node;
+			maxId = Math.max(maxId, node.getId());
+		}
+		// The terminals are found as well, other IDs aren't.
+		boolean othersCorrect = complete.getNode(0) == OBDD.ZERO &&
+				complete.getNode(1) == OBDD.ONE &&
+				complete.getNode(maxId + 1) == null;
+		
+		System.out.println("All " + nodes.size() + " nodes are found by " +
+				"their IDs: " + nodesFound +
+				"\nThe terminals are found and unknown IDs aren't: " +
+				othersCorrect);
+	}
+
+
+	/**
+	 * collects an OBDD's decision nodes
+	 * @param root
+	 * @return
+	 */
+	static Set<OBDD> nodes(OBDD root) {
+		Set<OBDD> nodes =
+				Collections.newSetFromMap(new IdentityHashMap<OBDD, Boolean>());
+		LinkedList<OBDD> stack = new LinkedList<OBDD>();
+		stack.push(root);
+		while (!stack.isEmpty()) {
+			OBDD node = stack.pop();
+			if (!node.isTerminal() && nodes.add(node)) {
+				stack.push(node.getHighChild());
+				stack.push(node.getLowChild());
+			}
+		}
+		return nodes;
+	}
+
+}
@@ -0,0 +1,160 @@
+package tests;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+
+import model.*;
+
+/**
+ * compares the results of the node table's boolean operations with truth
+ * tables computed by evaluating every assignment
+ * (An assignment is represented by a number whose bit i - 1 is variable i's
+ *  value. The other tests use the same Formulas and helpers.)
+ * @author TimNP
+ *
+ */
+public class OperationTests {
+
+	/**
+	 * the number of variables
+	 */
+	static final int N = 5;
+
+	public static void main(String[] args) {
+		VariableOrdering varOrd = varOrd();
+		Formula f = f();
+		Formula g = g();
+		boolean[] fTable = truthTable(f);
+		boolean[] gTable = truthTable(g);
+		// constructing the Formulas' ROBDDs
+		OBDD fObdd = f.toRobdd(varOrd);
+		OBDD gObdd = g.toRobdd(varOrd);
+		boolean robddsCorrect = Arrays.equals(truthTable(fObdd), fTable) &&
+				Arrays.equals(truthTable(gObdd), gTable);
+		
+		// checking all sixteen boolean operations, sequential and parallel
+		boolean applyCorrect = true;
+		boolean parallelApplyCorrect = true;
+		for (int op = 0; op < 16; op++) {
+			boolean[] expected = new boolean[1 << N];
+			for (int m = 0; m < expected.length; m++) {
+				// The operation code's bits are the values for (0,0), (0,1),
+				// (1,0) and (1,1), starting with the highest one.
+				int a = fTable[m] ? 1 : 0;
+				int b = gTable[m] ? 1 : 0;
+				expected[m] = ((op >> (3 - (2 * a + b))) & 1) == 1;
+			}
+			OBDD applyObdd = fObdd.apply(gObdd, op, varOrd);
+			OBDD parallelObdd = fObdd.parallelApply(gObdd, op, varOrd);
+			applyCorrect &= Arrays.equals(truthTable(applyObdd), expected);
+			// The parallel algorithm has to provide the same node.
+			parallelApplyCorrect &= parallelObdd == applyObdd;
+		}
+		
+		System.out.println("The ROBDDs are correct: " + robddsCorrect +
+				"\napply is correct for all operations: " + applyCorrect +
+				"\nparallelApply provides the same nodes: " +
+				parallelApplyCorrect);
+	}
+
+
+	/**
+	 * provides the VariableOrdering of the tests
+	 * @return
+	 */
+	static VariableOrdering varOrd() {
+		// a list of "variables"
+		LinkedList<Integer> list = new LinkedList<Integer>();
+		list.add(3);
+		list.add(1);
+		list.add(5);
+		list.add(2);
+		list.add(4);
+		// constructing a VariableOrdering from the list
+		return new VariableOrdering(list);
+	}
+
+
+	/**
+	 * provides the first Formula of the tests:
+	 * (X1 * X2) + (-X3 * X4) + (X5 * -X1)
+	 * @return
+	 */
+	static Formula f() {
+		return new Formula(1).and(new Formula(2))
+				.or(new Formula(3).not().and(new Formula(4)))
+				.or(new Formula(5).and(new Formula(1).not()));
+	}
+
+
+	/**
+	 * provides the second Formula of the tests:
+	 * (X2 + X5) * -(X3 * X4) + (-X2 * X1)
+	 * @return
+	 */
+	static Formula g() {
+		return new Formula(2).or(new Formula(5))
+				.and(new Formula(3).and(new Formula(4)).not())
+				.or(new Formula(2).not().and(new Formula(1)));
+	}
+
+
+	/**
+	 * provides a Formula's values for all assignments
+	 * @param formula
+	 * @return
+	 */
+	static boolean[] truthTable(Formula formula) {
+		boolean[] table = new boolean[1 << N];
+		for (int m = 0; m < table.length; m++)
+			table[m] = formula.evaluate(assignedOne(m));
+		return table;
+	}
+
+
+	/**
+	 * provides an OBDD's values for all assignments
+	 * @param obdd
+	 * @return
+	 */
+	static boolean[] truthTable(OBDD obdd) {
+		boolean[] table = new boolean[1 << N];
+		for (int m = 0; m < table.length; m++) {
+			// following the assignment's path to a terminal
+			OBDD node = obdd;
+			while (!node.isTerminal()) {
+				boolean one = ((m >> (node.getVar() - 1)) & 1) == 1;
+				node = one ? node.getHighChild() : node.getLowChild();
+			}
+			table[m] = node == OBDD.ONE;
+		}
+		return table;
+	}
+
+
+	/**
+	 * lists the variables an assignment assigns one
+	 * @param m - the assignment
+	 * @return
+	 */
+	static LinkedList<Integer> assignedOne(int m) {
+		LinkedList<Integer> assignedOne = new LinkedList<Integer>();
+		for (int var = 1; var <= N; var++)
+			if (((m >> (var - 1)) & 1) == 1) assignedOne.add(var);
+		return assignedOne;
+	}
+
+
+	/**
+	 * provides the assignment given by the variables assigned one
+	 * @param assignedOne
+	 * @return
+	 */
+	static int assignment(Collection<Integer> assignedOne) {
+		int m = 0;
+		for (int var : assignedOne) m |= 1 << (var - 1);
+		return m;
+	}
+
+}
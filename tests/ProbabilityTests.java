@@ -0,0 +1,66 @@
+package tests;
+
+import java.util.HashMap;
+
+import model.*;
+
+/**
+ * compares the weighted model count and the marginals with sums over the
+ * truth table
+ * @author TimNP
+ *
+ */
+public class ProbabilityTests {
+
+	public static void main(String[] args) {
+		VariableOrdering varOrd = OperationTests.varOrd();
+		OBDD fObdd = OperationTests.f().toRobdd(varOrd);
+		boolean[] fTable = OperationTests.truthTable(fObdd);
+		int n = OperationTests.N;
+		// each variable's probability of being assigned one: 0.1 * i + 0.2
+		HashMap<Integer, Double> probabilities = new HashMap<Integer, Double>();
+		for (int var = 1; var <= n; var++)
+			probabilities.put(var, 0.1 * var + 0.2);
+		// summing the probabilities of f's satisfying assignments, in total
+		// and for each variable assigned one
+		double total = 0;
+		double[] ones = new double[n + 1];
+		for (int m = 0; m < fTable.length; m++) {
+			if (!fTable[m]) continue;
+			double p = 1;
+			for (int var = 1; var <= n; var++) {
+				boolean one = ((m >> (var - 1)) & 1) == 1;
+				p *= one ? probabilities.get(var) : 1 - probabilities.get(var);
+			}
+			total += p;
+			for (int var = 1; var <= n; var++)
+				if (((m >> (var - 1)) & 1) == 1) ones[var] += p;
+		}
+		boolean probabilityCorrect =
+				Math.abs(fObdd.probability(probabilities, varOrd) - total)
+				< 1e-9;
+		HashMap<Integer, Double> marginals =
+				fObdd.marginals(probabilities, varOrd);
+		boolean marginalsCorrect = true;
+		for (int var = 1; var <= n; var++)
+			marginalsCorrect &=
+					Math.abs(marginals.get(var) - ones[var] / total) < 1e-9;
+		
+		// With all probabilities being 0.5, the probability is the fraction
+		// of satisfying assignments.
+		boolean uniformCorrect = Math.abs(fObdd.probability(
+				new HashMap<Integer, Double>(), varOrd) -
+				fObdd.countDouble(varOrd) / fTable.length) < 1e-9;
+		// The 0-terminal has no marginals.
+		boolean zeroCorrect = OBDD.ZERO.probability(probabilities, varOrd) == 0
+				&& OBDD.ZERO.marginals(probabilities, varOrd) == null;
+		
+		System.out.println("probability is correct: " + probabilityCorrect +
+				"\nmarginals are correct: " + marginalsCorrect +
+				"\nprobability is correct without given probabilities: " +
+				uniformCorrect +
+				"\nThe 0-terminal has probability 0 and no marginals: " +
+				zeroCorrect);
+	}
+
+}
@@ -0,0 +1,56 @@
+package tests;
+
+import java.util.Arrays;
+import java.util.List;
+
+import model.*;
+
+/**
+ * compares the results of the quantifications and the relational product 
+ * with truth tables
+ * @author TimNP
+ *
+ */
+public class QuantificationTests {
+
+	public static void main(String[] args) {
+		VariableOrdering varOrd = OperationTests.varOrd();
+		OBDD fObdd = OperationTests.f().toRobdd(varOrd);
+		OBDD gObdd = OperationTests.g().toRobdd(varOrd);
+		boolean[] fTable = OperationTests.truthTable(fObdd);
+		boolean[] gTable = OperationTests.truthTable(gObdd);
+		// quantifying X2 and X4
+		List<Integer> quantified = Arrays.asList(2, 4);
+		int quantifiedBits = OperationTests.assignment(quantified);
+		boolean[] existsTable = new boolean[fTable.length];
+		boolean[] forallTable = new boolean[fTable.length];
+		boolean[] andExistsTable = new boolean[fTable.length];
+		for (int m = 0; m < fTable.length; m++) {
+			forallTable[m] = true;
+			// going through all assignments of the quantified variables
+			for (int q = 0; q < fTable.length; q++) {
+				if ((q & ~quantifiedBits) != 0) continue;
+				int assignment = (m & ~quantifiedBits) | q;
+				existsTable[m] |= fTable[assignment];
+				forallTable[m] &= fTable[assignment];
+				andExistsTable[m] |= fTable[assignment] && gTable[assignment];
+			}
+		}
+		boolean existsCorrect = Arrays.equals(OperationTests.truthTable(
+				fObdd.exists(quantified, varOrd)), existsTable);
+		boolean forallCorrect = Arrays.equals(OperationTests.truthTable(
+				fObdd.forall(quantified, varOrd)), forallTable);
+		// The relational product has to provide the same node as quantifying
+		// the conjunction.
+		OBDD andExistsObdd = fObdd.andExists(gObdd, quantified, varOrd);
+		boolean andExistsCorrect = Arrays.equals(
+				OperationTests.truthTable(andExistsObdd), andExistsTable) &&
+				andExistsObdd == fObdd.apply(gObdd, OBDD.AND, varOrd)
+						.exists(quantified, varOrd);
+		
+		System.out.println("exists is correct: " + existsCorrect +
+				"\nforall is correct: " + forallCorrect +
+				"\nandExists is correct: " + andExistsCorrect);
+	}
+
+}
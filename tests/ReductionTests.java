@@ -0,0 +1,56 @@
+package tests;
+
+import java.util.Arrays;
+import java.util.List;
+
+import model.*;
+
+/**
+ * checks that reducing a complete OBDD provides a QOBDD and the Formula's
+ * ROBDD
+ * @author TimNP
+ *
+ */
+public class ReductionTests {
+
+	public static void main(String[] args) {
+		VariableOrdering varOrd = OperationTests.varOrd();
+		Formula f = OperationTests.f();
+		boolean[] fTable = OperationTests.truthTable(f);
+		// the complete OBDD, with a node for each variable on each path
+		OBDD complete = f.entireTruthTable(varOrd).toObdd(varOrd);
+		OBDD robdd = f.toRobdd(varOrd);
+		
+		// merging all equivalent nodes
+		OBDD qobdd = complete.reduceQ(varOrd);
+		boolean qobddCorrect =
+				Arrays.equals(OperationTests.truthTable(qobdd), fTable) &&
+				qobdd.isQobdd(varOrd) &&
+				qobdd.findAnyEquivalent(varOrd) == null;
+		
+		// additionally removing all redundant nodes
+		OBDD reduced = complete.reduceR(varOrd);
+		boolean robddCorrect =
+				Arrays.equals(OperationTests.truthTable(reduced), fTable) &&
+				reduced.isRobdd(varOrd) && size(reduced) == size(robdd);
+		
+		System.out.println("reduceQ provides a QOBDD: " + qobddCorrect +
+				"\nreduceR provides the ROBDD: " + robddCorrect +
+				"\nThe complete OBDD, the QOBDD and the ROBDD have " +
+				size(complete) + ", " + size(qobdd) + " and " +
+				size(reduced) + " nodes");
+	}
+
+
+	/**
+	 * provides the number of an OBDD's decision nodes
+	 * @param obdd
+	 * @return
+	 */
+	private static int size(OBDD obdd) {
+		int size = 0;
+		for (List<OBDD> layer : obdd.getLayers().values()) size += layer.size();
+		return size;
+	}
+
+}
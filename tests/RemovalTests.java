@@ -0,0 +1,57 @@
+package tests;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.Set;
+
+import model.*;
+
+/**
+ * checks that removing all redundant nodes of a QOBDD at once provides the
+ * ROBDD
+ * @author TimNP
+ *
+ */
+public class RemovalTests {
+
+	public static void main(String[] args) {
+		VariableOrdering varOrd = OperationTests.varOrd();
+		Formula f = OperationTests.f();
+		OBDD qobdd = f.entireTruthTable(varOrd).toObdd(varOrd).reduceQ(varOrd);
+		boolean[] fTable = OperationTests.truthTable(qobdd);
+		// findAllRedundant provides each redundant node exactly once.
+		LinkedList<OBDD> redundantNodes = qobdd.findAllRedundant();
+		Set<OBDD> found =
+				Collections.newSetFromMap(new IdentityHashMap<OBDD, Boolean>());
+		found.addAll(redundantNodes);
+		boolean findCorrect = found.size() == redundantNodes.size();
+		for (OBDD node : NodeIndexTests.nodes(qobdd))
+			findCorrect &= node.isRedundant() == found.contains(node);
+		
+		// Removing all of them in one rebuild provides the ROBDD.
+		OBDD removed = qobdd.remove(redundantNodes, varOrd);
+		boolean removeAllCorrect = !redundantNodes.isEmpty() &&
+				Arrays.equals(OperationTests.truthTable(removed), fTable) &&
+				removed.isRobdd(varOrd) &&
+				removed.findAllRedundant().isEmpty() &&
+				NodeIndexTests.nodes(removed).size() ==
+						NodeIndexTests.nodes(f.toRobdd(varOrd)).size();
+		// Removing a single redundant node keeps the function.
+		OBDD removedOne = qobdd.remove(redundantNodes.getFirst(), varOrd);
+		boolean removeOneCorrect =
+				Arrays.equals(OperationTests.truthTable(removedOne), fTable) &&
+				NodeIndexTests.nodes(removedOne).size() <
+						NodeIndexTests.nodes(qobdd).size();
+		
+		System.out.println("findAllRedundant provides the " +
+				redundantNodes.size() + " redundant nodes once: " +
+				findCorrect +
+				"\nRemoving all redundant nodes provides the ROBDD: " +
+				removeAllCorrect +
+				"\nRemoving one redundant node keeps the function: " +
+				removeOneCorrect);
+	}
+
+}
@@ -0,0 +1,55 @@
+package tests;
+
+import java.util.Arrays;
+
+import model.*;
+
+/**
+ * checks that the sampler only draws satisfying assignments, each of them
+ * about equally often
+ * @author TimNP
+ *
+ */
+public class SamplingTests {
+
+	/**
+	 * the number of samples
+	 */
+	private static final int SAMPLES = 100000;
+
+	public static void main(String[] args) {
+		VariableOrdering varOrd = OperationTests.varOrd();
+		OBDD fObdd = OperationTests.f().toRobdd(varOrd);
+		boolean[] fTable = OperationTests.truthTable(fObdd);
+		int fCount = fObdd.number(varOrd);
+		// counting how often each assignment is drawn
+		int[] drawn = new int[fTable.length];
+		Sampler sampler = fObdd.sampler(varOrd, 42);
+		for (int i = 0; i < SAMPLES; i++)
+			drawn[OperationTests.assignment(sampler.sample())]++;
+		boolean samplesSatisfying = true;
+		boolean samplesUniform = true;
+		for (int m = 0; m < fTable.length; m++) {
+			if (!fTable[m]) samplesSatisfying &= drawn[m] == 0;
+			// allowing a deviation of 10 percent from the expected frequency
+			else samplesUniform &=
+					Math.abs(drawn[m] - (double) SAMPLES / fCount) <
+					0.1 * SAMPLES / fCount;
+		}
+		
+		// The same seed provides the same samples.
+		boolean samplesRepeatable = Arrays.deepEquals(
+				fObdd.sampler(varOrd, 7).sample(100),
+				fObdd.sampler(varOrd, 7).sample(100));
+		// The 0-terminal has no satisfying assignment to draw.
+		boolean zeroCorrect = OBDD.ZERO.sampler(varOrd, 42).sample() == null;
+		
+		System.out.println("The samples satisfy the OBDD: " +
+				samplesSatisfying +
+				"\nThe samples are uniformly distributed: " + samplesUniform +
+				"\nThe same seed provides the same samples: " +
+				samplesRepeatable +
+				"\nThe 0-terminal has no samples: " + zeroCorrect);
+	}
+
+}
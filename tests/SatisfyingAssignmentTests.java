@@ -0,0 +1,90 @@
+package tests;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+import model.*;
+
+/**
+ * compares the satisfying assignments and cubes provided by the iterators and
+ * the stream with the truth table
+ * @author TimNP
+ *
+ */
+public class SatisfyingAssignmentTests {
+
+	public static void main(String[] args) {
+		VariableOrdering varOrd = OperationTests.varOrd();
+		OBDD fObdd = OperationTests.f().toRobdd(varOrd);
+		boolean[] fTable = OperationTests.truthTable(fObdd);
+		// marking the assignments provided by the iterator (each one only
+		// once)
+		boolean[] iterated = new boolean[fTable.length];
+		boolean iteratorCorrect = true;
+		Iterator<LinkedList<Integer>> iter = fObdd.satIterator(varOrd);
+		while (iter.hasNext()) {
+			int m = OperationTests.assignment(iter.next());
+			iteratorCorrect &= !iterated[m];
+			iterated[m] = true;
+		}
+		iteratorCorrect &= Arrays.equals(iterated, fTable);
+		// An exhausted iterator doesn't provide any more assignments.
+		try {
+			iter.next();
+			iteratorCorrect = false;
+		} catch (NoSuchElementException e) {}
+		// The stream provides the same assignments.
+		boolean[] streamed = new boolean[fTable.length];
+		for (LinkedList<Integer> assignedOne : 
+				fObdd.satStream(varOrd).collect(Collectors.toList()))
+			streamed[OperationTests.assignment(assignedOne)] = true;
+		boolean streamCorrect = Arrays.equals(streamed, fTable) &&
+				fObdd.satStream(varOrd).count() ==
+						fObdd.count(varOrd).longValue();
+		
+		// The cubes have to cover each satisfying assignment exactly once.
+		int[] covered = new int[fTable.length];
+		Iterator<LinkedHashMap<Integer, Boolean>> cubeIter =
+				fObdd.cubeIterator(varOrd);
+		while (cubeIter.hasNext()) {
+			LinkedHashMap<Integer, Boolean> cube = cubeIter.next();
+			for (int m = 0; m < fTable.length; m++) {
+				boolean inCube = true;
+				for (Map.Entry<Integer, Boolean> literal : cube.entrySet())
+					inCube &= (((m >> (literal.getKey() - 1)) & 1) == 1) ==
+							literal.getValue();
+				if (inCube) covered[m]++;
+			}
+		}
+		boolean cubesCorrect = true;
+		for (int m = 0; m < fTable.length; m++)
+			cubesCorrect &= covered[m] == (fTable[m] ? 1 : 0);
+		
+		// The iterator finds the first assignment of a function with 2^98
+		// satisfying assignments without going through all of them.
+		LinkedList<Integer> list = new LinkedList<Integer>();
+		for (int var = 1; var <= 100; var++) list.add(var);
+		VariableOrdering largeVarOrd = new VariableOrdering(list);
+		OBDD x1 = OBDD.ONE.cons(1, OBDD.ZERO, largeVarOrd);
+		OBDD x2 = OBDD.ONE.cons(2, OBDD.ZERO, largeVarOrd);
+		Iterator<LinkedList<Integer>> largeIter =
+				x1.apply(x2, OBDD.AND, largeVarOrd).satIterator(largeVarOrd);
+		LinkedList<Integer> first = largeIter.next();
+		boolean iteratorLazy = first.contains(1) && first.contains(2) &&
+				largeIter.hasNext();
+		
+		System.out.println("satIterator provides all satisfying " +
+				"assignments once: " + iteratorCorrect +
+				"\nsatStream provides all satisfying assignments: " +
+				streamCorrect +
+				"\ncubeIterator covers each satisfying assignment once: " +
+				cubesCorrect +
+				"\nsatIterator is lazy: " + iteratorLazy);
+	}
+
+}
@@ -0,0 +1,91 @@
+package tests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import model.*;
+
+/**
+ * checks that sifting keeps the OBDDs' functions and finds a small
+ * VariableOrdering
+ * @author TimNP
+ *
+ */
+public class SiftingTests {
+
+	public static void main(String[] args) {
+		VariableOrdering varOrd = OperationTests.varOrd();
+		OBDD fObdd = OperationTests.f().toRobdd(varOrd);
+		OBDD gObdd = OperationTests.g().toRobdd(varOrd);
+		boolean[] fTable = OperationTests.truthTable(fObdd);
+		boolean[] gTable = OperationTests.truthTable(gObdd);
+		boolean[] xorTable = new boolean[1 << OperationTests.N];
+		for (int m = 0; m < xorTable.length; m++)
+			xorTable[m] = fTable[m] != gTable[m];
+		// sifting the variables, which replaces the ROBDDs
+		List<OBDD> roots = new ArrayList<OBDD>();
+		roots.add(fObdd);
+		roots.add(gObdd);
+		roots.add(fObdd.apply(gObdd, OBDD.XOR, varOrd));
+		VariableOrdering siftedVarOrd = OBDD.sift(varOrd, roots);
+		boolean functionsKept = 
+				Arrays.equals(OperationTests.truthTable(roots.get(0)), 
+						fTable) &&
+				Arrays.equals(OperationTests.truthTable(roots.get(1)), 
+						gTable) &&
+				Arrays.equals(OperationTests.truthTable(roots.get(2)), 
+						xorTable);
+		boolean robddsKept = roots.get(0).isRobdd(siftedVarOrd) &&
+				roots.get(1).isRobdd(siftedVarOrd) &&
+				roots.get(2).isRobdd(siftedVarOrd);
+		
+		// the comparator (X1 <=> X2) * (X3 <=> X4) * ... * (X11 <=> X12)
+		// with all odd variables above all even ones, whose size is
+		// exponential, while pairing the variables makes it linear
+		LinkedList<Integer> list = new LinkedList<Integer>();
+		for (int var = 1; var <= 11; var += 2) list.add(var);
+		for (int var = 2; var <= 12; var += 2) list.add(var);
+		VariableOrdering comparatorVarOrd = new VariableOrdering(list);
+		OBDD comparator = OBDD.ONE;
+		for (int var = 1; var <= 11; var += 2) {
+			OBDD x = OBDD.ONE.cons(var, OBDD.ZERO, comparatorVarOrd);
+			OBDD y = OBDD.ONE.cons(var + 1, OBDD.ZERO, comparatorVarOrd);
+			comparator = comparator.apply(
+					x.apply(y, OBDD.EQUIVALENCE, comparatorVarOrd),
+					OBDD.AND, comparatorVarOrd);
+		}
+		int sizeBefore = size(comparator);
+		List<OBDD> comparatorRoots = new ArrayList<OBDD>();
+		comparatorRoots.add(comparator);
+		VariableOrdering siftedComparatorVarOrd =
+				OBDD.sift(comparatorVarOrd, comparatorRoots);
+		int sizeAfter = size(comparatorRoots.get(0));
+		// Each pair of variables needs three nodes.
+		boolean comparatorShrunk = sizeAfter == 3 * 6 &&
+				comparatorRoots.get(0).isRobdd(siftedComparatorVarOrd);
+		
+		System.out.println("Sifting keeps the functions: " + functionsKept +
+				"\nSifting keeps the OBDDs reduced: " + robddsKept +
+				"\nThe sifted variable ordering is: " +
+				siftedVarOrd.getOrdList() +
+				"\nSifting shrinks the comparator from " + sizeBefore +
+				" to " + sizeAfter + " nodes: " + comparatorShrunk +
+				"\nThe comparator's sifted variable ordering is: " +
+				siftedComparatorVarOrd.getOrdList());
+	}
+
+
+	/**
+	 * provides the number of an OBDD's decision nodes
+	 * @param obdd
+	 * @return
+	 */
+	private static int size(OBDD obdd) {
+		int size = 0;
+		for (List<OBDD> layer : obdd.getLayers().values()) size += layer.size();
+		return size;
+	}
+
+}
@@ -0,0 +1,48 @@
+package tests;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+import model.*;
+
+/**
+ * compares the results of restriction and functional composition with truth
+ * tables
+ * @author TimNP
+ *
+ */
+public class SubstitutionTests {
+
+	public static void main(String[] args) {
+		VariableOrdering varOrd = OperationTests.varOrd();
+		OBDD fObdd = OperationTests.f().toRobdd(varOrd);
+		OBDD gObdd = OperationTests.g().toRobdd(varOrd);
+		boolean[] fTable = OperationTests.truthTable(fObdd);
+		boolean[] gTable = OperationTests.truthTable(gObdd);
+		// restricting X3 to one, restricting X1 to zero and X5 to one, and
+		// substituting X1 by g
+		boolean[] restrictTable = new boolean[fTable.length];
+		boolean[] cofactorTable = new boolean[fTable.length];
+		boolean[] composeTable = new boolean[fTable.length];
+		for (int m = 0; m < fTable.length; m++) {
+			restrictTable[m] = fTable[m | (1 << 2)];
+			cofactorTable[m] = fTable[(m & ~1) | (1 << 4)];
+			composeTable[m] = fTable[gTable[m] ? (m | 1) : (m & ~1)];
+		}
+		boolean restrictCorrect = Arrays.equals(OperationTests.truthTable(
+				fObdd.restrict(3, true, varOrd)), restrictTable);
+		HashMap<Integer, Boolean> assignment = new HashMap<Integer, Boolean>();
+		assignment.put(1, false);
+		assignment.put(5, true);
+		boolean cofactorCorrect = Arrays.equals(OperationTests.truthTable(
+				fObdd.restrict(assignment, varOrd)), cofactorTable);
+		boolean composeCorrect = Arrays.equals(OperationTests.truthTable(
+				fObdd.compose(1, gObdd, varOrd)), composeTable);
+		
+		System.out.println("restrict is correct for a variable: " +
+				restrictCorrect +
+				"\nrestrict is correct for an assignment: " + cofactorCorrect +
+				"\ncompose is correct: " + composeCorrect);
+	}
+
+}
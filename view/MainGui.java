@@ -96,7 +96,8 @@ public class MainGui extends JFrame {
 			new JButton("Get Formula"),
 			new JButton("Get Truth Table"),
 			new JButton("Enable/Disable Drag&Drop"),
-			new JButton("Align Nodes")//,
+			new JButton("Align Nodes"),
+			new JButton("Sift Variable Ordering")//,
 //			new JButton("Export BDD")
 	};
 	
@@ -209,6 +210,15 @@ public class MainGui extends JFrame {
 					// calling the OBDD controller's align nodes method
 					obddController.alignNodes();
 				}
+			},
+			// the sift variable ordering button listener
+			new ActionListener() {
+				@Override
+				public void actionPerformed(ActionEvent e) {
+					// calling the OBDD controller's sift variable ordering 
+					// method
+					obddController.siftVarOrd();
+				}
 			}//,
 //			// the export button listener
 //			new ActionListener() {
@@ -247,7 +257,10 @@ public class MainGui extends JFrame {
 			// the node drag&drop button tool tip
 			"Drag&drop for the BDD's nodes is currently disabled.",
 			// the align nodes button listener
-			"Aligns the BDD's nodes to the application's standard."//,
+			"Aligns the BDD's nodes to the application's standard.",
+			// the sift variable ordering button tool tip
+			"<html>Reorders the variables to reduce the BDD's size.<br>"
+			+ "All BDDs with the same variable ordering are reordered."//,
 //			// the export button listener
 //			"Exports the BDD into a file of a chosen format."
 			};